@@ -0,0 +1,347 @@
+package binding;
+
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PageBindingProcessor - Generates locator binding code for @FindBy fields at compile time
+ * For every class with @FindBy fields a {@code <Page>_Binding} class is generated that assigns
+ * lazy elements directly to the fields, and each package gets a {@code PageBindings} dispatcher.
+ * Page constructors call {@code PageBindings.bind(this, driver)} instead of PageFactory.initElements,
+ * so no reflection or dynamic proxies are needed at runtime.
+ * Invalid locators (no strategy, several strategies, bad XPath, compound class names) and fields
+ * the generated code cannot assign (private, static, final, wrong type) fail the compilation.
+ */
+@SupportedAnnotationTypes("org.openqa.selenium.support.FindBy")
+public class PageBindingProcessor extends AbstractProcessor {
+
+    private static final String ELEMENT_TYPE = "utils.LazyElement";
+    private static final String ELEMENT_LIST_TYPE = "utils.LazyElementList";
+    private static final String DISPATCHER_NAME = "PageBindings";
+
+    private final Map<TypeElement, List<VariableElement>> fieldsByPage = new LinkedHashMap<>();
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(FindBy.class)) {
+            if (element.getKind() != ElementKind.FIELD) {
+                continue;
+            }
+            VariableElement field = (VariableElement) element;
+            if (validateField(field)) {
+                TypeElement page = (TypeElement) field.getEnclosingElement();
+                fieldsByPage.computeIfAbsent(page, key -> new ArrayList<>()).add(field);
+            }
+        }
+
+        if (!generated && !fieldsByPage.isEmpty() && !roundEnv.errorRaised()) {
+            generated = true;
+            for (Map.Entry<TypeElement, List<VariableElement>> entry : fieldsByPage.entrySet()) {
+                writeBinding(entry.getKey(), entry.getValue());
+            }
+            writeDispatchers();
+        }
+        return true;
+    }
+
+    // Validation
+
+    private boolean validateField(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+            error(field, "@FindBy field must not be private, static or final so the generated binding can assign it");
+            return false;
+        }
+        if (!isWebElement(field.asType()) && !isWebElementList(field.asType())) {
+            error(field, "@FindBy field must be WebElement or List<WebElement>");
+            return false;
+        }
+        return byExpression(field) != null;
+    }
+
+    /**
+     * Builds the By expression for the field, or reports an error and returns null
+     */
+    private String byExpression(VariableElement field) {
+        FindBy findBy = field.getAnnotation(FindBy.class);
+        Map<String, String> strategies = new LinkedHashMap<>();
+        putIfSet(strategies, "By.id", findBy.id());
+        putIfSet(strategies, "By.name", findBy.name());
+        putIfSet(strategies, "By.className", findBy.className());
+        putIfSet(strategies, "By.cssSelector", findBy.css());
+        putIfSet(strategies, "By.tagName", findBy.tagName());
+        putIfSet(strategies, "By.linkText", findBy.linkText());
+        putIfSet(strategies, "By.partialLinkText", findBy.partialLinkText());
+        putIfSet(strategies, "By.xpath", findBy.xpath());
+
+        if (findBy.how() != How.UNSET) {
+            if (findBy.using().isEmpty()) {
+                error(field, "@FindBy sets 'how' but not 'using'");
+                return null;
+            }
+            strategies.put(factoryFor(findBy.how()), findBy.using());
+        }
+
+        if (strategies.size() != 1) {
+            error(field, strategies.isEmpty()
+                    ? "@FindBy must specify a locator strategy"
+                    : "@FindBy must specify exactly one locator strategy, found " + strategies.keySet());
+            return null;
+        }
+
+        Map.Entry<String, String> strategy = strategies.entrySet().iterator().next();
+        String problem = checkLocator(strategy.getKey(), strategy.getValue());
+        if (problem != null) {
+            error(field, "Invalid @FindBy locator \"" + strategy.getValue() + "\": " + problem);
+            return null;
+        }
+        String literal = processingEnv.getElementUtils().getConstantExpression(strategy.getValue());
+        return strategy.getKey() + "(" + literal + ")";
+    }
+
+    private static void putIfSet(Map<String, String> strategies, String factory, String value) {
+        if (!value.isEmpty()) {
+            strategies.put(factory, value);
+        }
+    }
+
+    private static String factoryFor(How how) {
+        return switch (how) {
+            case CLASS_NAME -> "By.className";
+            case CSS -> "By.cssSelector";
+            case ID -> "By.id";
+            case ID_OR_NAME -> "new org.openqa.selenium.support.pagefactory.ByIdOrName";
+            case LINK_TEXT -> "By.linkText";
+            case NAME -> "By.name";
+            case PARTIAL_LINK_TEXT -> "By.partialLinkText";
+            case TAG_NAME -> "By.tagName";
+            case XPATH -> "By.xpath";
+            default -> throw new IllegalArgumentException("Unsupported How: " + how);
+        };
+    }
+
+    private static String checkLocator(String factory, String value) {
+        if (value.isBlank()) {
+            return "locator is blank";
+        }
+        switch (factory) {
+            case "By.className":
+                if (value.trim().contains(" ")) {
+                    return "compound class names are not permitted";
+                }
+                return null;
+            case "By.xpath":
+                try {
+                    XPathFactory.newInstance().newXPath().compile(value);
+                    return null;
+                } catch (XPathExpressionException e) {
+                    return "XPath does not compile" + (e.getMessage() != null ? " (" + e.getMessage() + ")" : "");
+                }
+            case "By.cssSelector":
+                return checkBalanced(value);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Cheap syntax check for CSS selectors - brackets, parentheses and quotes must balance
+     */
+    private static String checkBalanced(String selector) {
+        int brackets = 0;
+        int parens = 0;
+        char quote = 0;
+        for (char c : selector.toCharArray()) {
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            switch (c) {
+                case '\'', '"' -> quote = c;
+                case '[' -> brackets++;
+                case ']' -> brackets--;
+                case '(' -> parens++;
+                case ')' -> parens--;
+                default -> { }
+            }
+            if (brackets < 0 || parens < 0) {
+                return "unbalanced brackets";
+            }
+        }
+        if (quote != 0) {
+            return "unterminated string";
+        }
+        return brackets == 0 && parens == 0 ? null : "unbalanced brackets";
+    }
+
+    private boolean isWebElement(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals("org.openqa.selenium.WebElement");
+    }
+
+    private boolean isWebElementList(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        DeclaredType declared = (DeclaredType) type;
+        return ((TypeElement) declared.asElement()).getQualifiedName().contentEquals("java.util.List")
+                && declared.getTypeArguments().size() == 1
+                && isWebElement(declared.getTypeArguments().get(0));
+    }
+
+    // Code generation
+
+    private void writeBinding(TypeElement page, List<VariableElement> fields) {
+        String packageName = packageOf(page);
+        String bindingName = bindingName(page);
+        String pageName = page.getQualifiedName().toString();
+        TypeElement boundSuper = boundSuperclass(page);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import org.openqa.selenium.By;\n")
+              .append("import org.openqa.selenium.SearchContext;\n\n")
+              .append("/**\n * Generated by PageBindingProcessor from the @FindBy fields of ")
+              .append(page.getSimpleName()).append(" - do not edit\n */\n")
+              .append("public final class ").append(bindingName).append(" {\n\n")
+              .append("    private ").append(bindingName).append("() {\n    }\n\n")
+              .append("    public static void bind(").append(pageName).append(" page, SearchContext context) {\n");
+        if (boundSuper != null) {
+            source.append("        ").append(qualifiedBindingName(boundSuper)).append(".bind(page, context);\n");
+        }
+        for (VariableElement field : fields) {
+            String name = field.getSimpleName().toString();
+            String by = byExpression(field);
+            String type = isWebElementList(field.asType()) ? ELEMENT_LIST_TYPE : ELEMENT_TYPE;
+            source.append("        page.").append(name).append(" = new ").append(type)
+                  .append("(context, ").append(by).append(", \"")
+                  .append(page.getSimpleName()).append('.').append(name).append("\");\n");
+        }
+        source.append("    }\n}\n");
+
+        write(qualifiedBindingName(page), source.toString(), page);
+    }
+
+    private void writeDispatchers() {
+        Map<String, List<TypeElement>> pagesByPackage = new LinkedHashMap<>();
+        for (TypeElement page : fieldsByPage.keySet()) {
+            pagesByPackage.computeIfAbsent(packageOf(page), key -> new ArrayList<>()).add(page);
+        }
+
+        for (Map.Entry<String, List<TypeElement>> entry : pagesByPackage.entrySet()) {
+            String packageName = entry.getKey();
+            List<TypeElement> pages = new ArrayList<>(entry.getValue());
+            // Most derived classes first so instanceof picks the closest binding
+            pages.sort(Comparator.comparingInt(this::depth).reversed());
+
+            StringBuilder source = new StringBuilder();
+            if (!packageName.isEmpty()) {
+                source.append("package ").append(packageName).append(";\n\n");
+            }
+            source.append("import org.openqa.selenium.SearchContext;\n\n")
+                  .append("/**\n * Generated by PageBindingProcessor - dispatches to the binding of the most derived page class\n */\n")
+                  .append("public final class ").append(DISPATCHER_NAME).append(" {\n\n")
+                  .append("    private ").append(DISPATCHER_NAME).append("() {\n    }\n\n")
+                  .append("    public static void bind(Object page, SearchContext context) {\n");
+            for (TypeElement page : pages) {
+                String pageName = page.getQualifiedName().toString();
+                source.append("        if (page instanceof ").append(pageName).append(") {\n")
+                      .append("            ").append(bindingName(page)).append(".bind((").append(pageName).append(") page, context);\n")
+                      .append("            return;\n")
+                      .append("        }\n");
+            }
+            source.append("        throw new IllegalArgumentException(\"No generated binding for \" + page.getClass().getName());\n")
+                  .append("    }\n}\n");
+
+            String qualified = packageName.isEmpty() ? DISPATCHER_NAME : packageName + "." + DISPATCHER_NAME;
+            write(qualified, source.toString(), pages.toArray(new Element[0]));
+        }
+    }
+
+    private TypeElement boundSuperclass(TypeElement page) {
+        TypeMirror superType = page.getSuperclass();
+        while (superType.getKind() == TypeKind.DECLARED) {
+            TypeElement superElement = (TypeElement) ((DeclaredType) superType).asElement();
+            if (fieldsByPage.containsKey(superElement)) {
+                return superElement;
+            }
+            superType = superElement.getSuperclass();
+        }
+        return null;
+    }
+
+    private int depth(TypeElement type) {
+        int depth = 0;
+        TypeMirror superType = type.getSuperclass();
+        while (superType.getKind() == TypeKind.DECLARED) {
+            depth++;
+            superType = ((TypeElement) ((DeclaredType) superType).asElement()).getSuperclass();
+        }
+        return depth;
+    }
+
+    private String packageOf(TypeElement type) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    }
+
+    private static String bindingName(TypeElement page) {
+        return page.getSimpleName() + "_Binding";
+    }
+
+    private String qualifiedBindingName(TypeElement page) {
+        String packageName = packageOf(page);
+        return packageName.isEmpty() ? bindingName(page) : packageName + "." + bindingName(page);
+    }
+
+    private void write(String qualifiedName, String source, Element... originatingElements) {
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, originatingElements);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
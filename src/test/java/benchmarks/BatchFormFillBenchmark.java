@@ -0,0 +1,74 @@
+package benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import pages.BatchInput;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Batch Form Fill Benchmark - Compares per-field clear + sendKeys with a single BatchInput script call
+ * Runs against a generated page with two inputs per row (item code, physical count) in headless Chrome.
+ * Usage: mvn -q test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.BatchFormFillBenchmark
+ */
+public class BatchFormFillBenchmark {
+
+    private static final int[] ROW_COUNTS = {10, 100, 1000};
+
+    public static void main(String[] args) {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new");
+        WebDriver driver = new ChromeDriver(options);
+        try {
+            System.out.printf("%-8s %-12s %12s %14s%n", "rows", "mode", "millis", "fields/sec");
+            for (int rows : ROW_COUNTS) {
+                loadPage(driver, rows);
+                List<WebElement> inputs = driver.findElements(By.cssSelector("input"));
+
+                long start = System.nanoTime();
+                for (int i = 0; i < inputs.size(); i++) {
+                    WebElement input = inputs.get(i);
+                    input.clear();
+                    input.sendKeys(valueFor(i));
+                }
+                report(rows, "sendKeys", inputs.size(), System.nanoTime() - start);
+
+                loadPage(driver, rows);
+                inputs = driver.findElements(By.cssSelector("input"));
+                BatchInput batch = new BatchInput();
+                for (int i = 0; i < inputs.size(); i++) {
+                    batch.set(inputs.get(i), valueFor(i), "field " + i);
+                }
+                start = System.nanoTime();
+                batch.applyScripted(driver);
+                report(rows, "batch", inputs.size(), System.nanoTime() - start);
+            }
+        } finally {
+            driver.quit();
+        }
+    }
+
+    private static void loadPage(WebDriver driver, int rows) {
+        StringBuilder html = new StringBuilder("<html><body><table>");
+        for (int i = 0; i < rows; i++) {
+            html.append("<tr><td><input id='item-").append(i).append("'></td>")
+                .append("<td><input id='count-").append(i).append("'></td></tr>");
+        }
+        html.append("</table></body></html>");
+        driver.get("data:text/html;charset=utf-8," + URLEncoder.encode(html.toString(), StandardCharsets.UTF_8).replace("+", "%20"));
+    }
+
+    private static String valueFor(int index) {
+        return index % 2 == 0 ? "SKU-" + index : String.valueOf(index);
+    }
+
+    private static void report(int rows, String mode, int fields, long nanos) {
+        double millis = nanos / 1_000_000.0;
+        System.out.printf("%-8d %-12s %12.1f %14.0f%n", rows, mode, millis, fields / (millis / 1000.0));
+    }
+}
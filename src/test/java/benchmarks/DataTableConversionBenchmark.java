@@ -0,0 +1,74 @@
+package benchmarks;
+
+import io.cucumber.datatable.DataTable;
+import io.cucumber.datatable.DataTableTypeRegistry;
+import io.cucumber.datatable.DataTableTypeRegistryTableConverter;
+import utils.WarehouseRows.SkuLine;
+import utils.WarehouseRows.SkuLines;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * DataTable Conversion Benchmark - Converting a 10,000-row | SKU | Quantity | Description | table
+ * Compares the previous step code (asMaps + a HashMap per row with Integer.parseInt) against the
+ * registered SkuLines table type, both materialized (toList) and streamed (sum of quantities).
+ * Usage: mvn -q test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.DataTableConversionBenchmark
+ */
+public class DataTableConversionBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURE_ROUNDS = 200;
+
+    private interface Conversion {
+        long convert(DataTable table);
+    }
+
+    public static void main(String[] args) {
+        DataTable table = createTable();
+
+        System.out.printf("%-22s %14s%n", "mode", "ms/table");
+        System.out.println(measure("asMaps + HashMap", table, t -> {
+            List<Map<String, Object>> items = t.asMaps(String.class, String.class).stream()
+                    .map(row -> {
+                        Map<String, Object> item = new HashMap<>();
+                        item.put("sku", row.get("SKU"));
+                        item.put("quantity", Integer.parseInt(row.get("Quantity")));
+                        item.put("description", row.get("Description"));
+                        return item;
+                    })
+                    .collect(Collectors.toList());
+            return items.size();
+        }));
+        System.out.println(measure("SkuLines.toList", table, t -> new SkuLines(t).toList().size()));
+        System.out.println(measure("SkuLines streamed", table, t -> new SkuLines(t).stream().mapToLong(SkuLine::quantity).sum()));
+    }
+
+    private static DataTable createTable() {
+        List<List<String>> cells = new ArrayList<>(ROWS + 1);
+        cells.add(List.of("SKU", "Quantity", "Description"));
+        for (int i = 0; i < ROWS; i++) {
+            cells.add(List.of("SKU-" + i, String.valueOf(i % 500 + 1), "Widget " + i));
+        }
+        return DataTable.create(cells, new DataTableTypeRegistryTableConverter(new DataTableTypeRegistry(Locale.ENGLISH)));
+    }
+
+    private static String measure(String mode, DataTable table, Conversion conversion) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += conversion.convert(table);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            sink += conversion.convert(table);
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / MEASURE_ROUNDS;
+        // Print the sink so the conversions cannot be optimized away
+        return String.format("%-22s %14.3f   (%d)", mode, millis, sink);
+    }
+}
@@ -0,0 +1,135 @@
+package benchmarks;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import utils.CompiledWorkbook;
+import utils.ExcelUtils;
+import utils.SheetData;
+import utils.StreamingSheetReader;
+import utils.WorkbookIndex;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Excel Read Benchmark - Per-call workbook parsing vs the cached, indexed ExcelUtils.readCell
+ * Generates sheets of 10, 1k and 100k rows (S.No, Username, Password, Sku, Quantity) and times random
+ * lookups. The uncached path is the previous readCell body: open, parse, scan header and rows per call.
+ * "stream" is one full pass over the sheet with StreamingSheetReader, projecting a single column.
+ * "compiled" opens the TestDataCompiler output (memory-mapped) and "mapped" times lookups against it.
+ * Usage: mvn -q test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.ExcelReadBenchmark
+ */
+public class ExcelReadBenchmark {
+
+    private static final int[] ROW_COUNTS = {10, 1_000, 100_000};
+    private static final String[] HEADERS = {"S.No", "Username", "Password", "Sku", "Quantity"};
+
+    public static void main(String[] args) throws IOException {
+        Path compiledDir = Files.createTempDirectory("excel-benchmark-compiled");
+        System.setProperty("testdata.compiled.dir", compiledDir.toString());
+        System.out.printf("%-8s %-10s %8s %14s%n", "rows", "mode", "calls", "micros/call");
+        for (int rows : ROW_COUNTS) {
+            File file = File.createTempFile("excel-benchmark-" + rows + "-", ".xlsx");
+            file.deleteOnExit();
+            writeWorkbook(file, rows);
+
+            // Whole-file parse per call - a handful of calls is enough at 100k rows
+            int uncachedCalls = rows >= 100_000 ? 3 : 20;
+            long start = System.nanoTime();
+            for (int i = 0; i < uncachedCalls; i++) {
+                readCellUncached(file, 1 + (i * 7919) % rows, "Password", "Data");
+            }
+            report(rows, "uncached", uncachedCalls, System.nanoTime() - start);
+
+            // First call builds the index - reported separately from the steady state
+            start = System.nanoTime();
+            ExcelUtils.readCell(file.getPath(), 1, "Password", "Data");
+            report(rows, "index", 1, System.nanoTime() - start);
+
+            int cachedCalls = 100_000;
+            start = System.nanoTime();
+            for (int i = 0; i < cachedCalls; i++) {
+                ExcelUtils.readCell(file.getPath(), 1 + (i * 7919) % rows, "Password", "Data");
+            }
+            report(rows, "cached", cachedCalls, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            long quantity = 0;
+            try (StreamingSheetReader reader = ExcelUtils.streamRows(file.getPath(), "Data", "Quantity")) {
+                for (StreamingSheetReader.Row row : reader) {
+                    quantity += (long) Double.parseDouble(row.get("Quantity"));
+                }
+            }
+            report(rows, "stream", rows, System.nanoTime() - start);
+            if (quantity < 0) {
+                System.out.println(quantity);
+            }
+
+            CompiledWorkbook.write(file, WorkbookIndex.parse(file).values(), CompiledWorkbook.compiledFileFor(file));
+            start = System.nanoTime();
+            SheetData mapped = WorkbookIndex.load(file).sheet("Data");
+            report(rows, "compiled", 1, System.nanoTime() - start);
+            start = System.nanoTime();
+            for (int i = 0; i < cachedCalls; i++) {
+                mapped.value(1 + (i * 7919) % rows, "Password");
+            }
+            report(rows, "mapped", cachedCalls, System.nanoTime() - start);
+        }
+    }
+
+    private static void writeWorkbook(File file, int rows) throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(1000); OutputStream out = new FileOutputStream(file)) {
+            var sheet = workbook.createSheet("Data");
+            Row header = sheet.createRow(0);
+            for (int col = 0; col < HEADERS.length; col++) {
+                header.createCell(col).setCellValue(HEADERS[col]);
+            }
+            for (int i = 1; i <= rows; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue(i);
+                row.createCell(1).setCellValue("user" + i);
+                row.createCell(2).setCellValue("secret" + i);
+                row.createCell(3).setCellValue("SKU-" + (100000 + i));
+                row.createCell(4).setCellValue(i % 250);
+            }
+            workbook.write(out);
+        }
+    }
+
+    /**
+     * The previous ExcelUtils.readCell, parameterized by file
+     */
+    private static String readCellUncached(File file, int sno, String header, String sheetName) throws IOException {
+        try (FileInputStream fis = new FileInputStream(file); XSSFWorkbook workbook = new XSSFWorkbook(fis)) {
+            XSSFSheet sheet = workbook.getSheet(sheetName);
+            int colTarget = -1;
+            int rowTarget = -1;
+            for (Cell cell : sheet.getRow(0)) {
+                if (cell.getStringCellValue().equalsIgnoreCase(header)) {
+                    colTarget = cell.getColumnIndex();
+                    break;
+                }
+            }
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row row = sheet.getRow(i);
+                if (row != null && row.getCell(0).getNumericCellValue() == sno) {
+                    rowTarget = i;
+                    break;
+                }
+            }
+            return sheet.getRow(rowTarget).getCell(colTarget).getStringCellValue();
+        }
+    }
+
+    private static void report(int rows, String mode, int calls, long nanos) {
+        System.out.printf("%-8d %-10s %8d %14.2f%n", rows, mode, calls, nanos / 1000.0 / calls);
+    }
+}
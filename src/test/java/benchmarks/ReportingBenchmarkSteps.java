@@ -0,0 +1,41 @@
+package benchmarks;
+
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.Scenario;
+import io.cucumber.java.en.Given;
+import utils.ExtentReportManager;
+
+/**
+ * Reporting Benchmark Steps - Glue for ReportingPluginBenchmark's generated feature
+ * Steps do no work; the hooks keep ExtentReportManager's report in the loop like the real Hooks class.
+ */
+public class ReportingBenchmarkSteps {
+
+    @BeforeAll
+    public static void setupReport() {
+        ExtentReportManager.initializeReport();
+    }
+
+    @Before
+    public void createTest(Scenario scenario) {
+        ExtentReportManager.createTest(scenario.getName(), "Cucumber Scenario: " + scenario.getName());
+    }
+
+    @Given("benchmark step {int}")
+    public void benchmarkStep(int step) {
+        ExtentReportManager.logInfo("step " + step);
+    }
+
+    @After
+    public void endTest() {
+        ExtentReportManager.endTest();
+    }
+
+    @AfterAll
+    public static void flushReport() {
+        ExtentReportManager.flushReport();
+    }
+}
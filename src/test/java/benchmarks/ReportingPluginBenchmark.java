@@ -0,0 +1,115 @@
+package benchmarks;
+
+import io.cucumber.core.cli.Main;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.Event;
+import io.cucumber.plugin.event.EventPublisher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reporting Plugin Benchmark - Per-event reporting overhead of the stacked plugin list vs UnifiedReportPlugin
+ * Generates a feature with N scenarios of no-op steps and runs it through the Cucumber CLI three times:
+ * without report plugins (baseline), with the previous runner plugins (html, json, junit, Extent adapter,
+ * timeline) and with reporting.UnifiedReportPlugin. Overhead = (run - baseline) / events on the bus.
+ * Usage: mvn -q test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=benchmarks.ReportingPluginBenchmark
+ */
+public class ReportingPluginBenchmark {
+
+    private static final int[] SCENARIO_COUNTS = {100, 1000};
+    private static final int STEPS_PER_SCENARIO = 5;
+    private static final int ROUNDS = 3;
+
+    private static final AtomicLong events = new AtomicLong();
+
+    /**
+     * Counts every event published on the bus - added to the baseline run only
+     */
+    public static class EventCounter implements ConcurrentEventListener {
+        @Override
+        public void setEventPublisher(EventPublisher publisher) {
+            publisher.registerHandlerFor(Event.class, event -> events.incrementAndGet());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path workDir = Files.createTempDirectory("reporting-benchmark");
+        System.out.printf("%-10s %-10s %10s %10s %16s%n", "scenarios", "config", "events", "millis", "overhead us/event");
+        for (int scenarios : SCENARIO_COUNTS) {
+            Path feature = writeFeature(workDir, scenarios);
+
+            // Warm up class loading and JIT for all three configurations
+            run(feature, List.of());
+            run(feature, stackedPlugins(workDir));
+            run(feature, List.of("reporting.UnifiedReportPlugin:" + workDir.resolve("unified")));
+
+            events.set(0);
+            run(feature, List.of(EventCounter.class.getName()));
+            long eventCount = events.get();
+
+            long baseline = best(feature, List.of());
+            long stacked = best(feature, stackedPlugins(workDir));
+            long unified = best(feature, List.of("reporting.UnifiedReportPlugin:" + workDir.resolve("unified")));
+
+            report(scenarios, "baseline", eventCount, baseline, baseline);
+            report(scenarios, "stacked", eventCount, stacked, baseline);
+            report(scenarios, "unified", eventCount, unified, baseline);
+        }
+    }
+
+    private static List<String> stackedPlugins(Path workDir) {
+        return List.of(
+                "html:" + workDir.resolve("stacked.html"),
+                "json:" + workDir.resolve("stacked.json"),
+                "junit:" + workDir.resolve("stacked.xml"),
+                "com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:",
+                "timeline:" + workDir.resolve("timeline"));
+    }
+
+    private static long best(Path feature, List<String> plugins) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            best = Math.min(best, run(feature, plugins));
+        }
+        return best;
+    }
+
+    private static long run(Path feature, List<String> plugins) {
+        List<String> argv = new ArrayList<>(List.of("--glue", "benchmarks", "--monochrome"));
+        for (String plugin : plugins) {
+            argv.add("--plugin");
+            argv.add(plugin);
+        }
+        argv.add(feature.toString());
+        long start = System.nanoTime();
+        byte status = Main.run(argv.toArray(new String[0]), Thread.currentThread().getContextClassLoader());
+        long elapsed = System.nanoTime() - start;
+        if (status != 0) {
+            throw new IllegalStateException("Benchmark run failed with exit status " + status);
+        }
+        return elapsed;
+    }
+
+    private static Path writeFeature(Path workDir, int scenarios) throws IOException {
+        StringBuilder feature = new StringBuilder("Feature: Reporting benchmark\n\n");
+        for (int i = 0; i < scenarios; i++) {
+            feature.append("  Scenario: Benchmark scenario ").append(i).append('\n');
+            for (int step = 0; step < STEPS_PER_SCENARIO; step++) {
+                feature.append("    Given benchmark step ").append(step).append('\n');
+            }
+        }
+        Path file = workDir.resolve("benchmark_" + scenarios + ".feature");
+        Files.writeString(file, feature);
+        return file;
+    }
+
+    private static void report(int scenarios, String config, long eventCount, long nanos, long baselineNanos) {
+        System.out.printf("%-10d %-10s %10d %10.1f %16.2f%n", scenarios, config, eventCount, nanos / 1_000_000.0,
+                (nanos - baselineNanos) / 1000.0 / eventCount);
+    }
+}
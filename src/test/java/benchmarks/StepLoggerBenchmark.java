@@ -0,0 +1,95 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.ExtentReportManager;
+import utils.StepLogger;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StepLogger Benchmark - JMH throughput of StepLogger.info with 1, 4 and 16 logging threads
+ * Compares the previous synchronous path (concatenate + System.out.println on the caller), the async
+ * StepLogger.info and a disabled level through the Supplier overload. The benchmark methods live in the
+ * abstract class; the nested subclasses only pick the thread count. Console output goes to a null stream
+ * so the numbers show the logging path, not the terminal, and Result.log is switched off. AsyncLogAppender's
+ * queue is bounded, so once it fills the async numbers are the drain rate, not just enqueueing.
+ * No scenario is running, so nothing is added to an Extent test.
+ * Usage: mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ *        -Dexec.args="-cp %classpath org.openjdk.jmh.Main StepLoggerBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.file=", "-Dlog.async=true"})
+public abstract class StepLoggerBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Console {
+        private PrintStream original;
+
+        @Setup
+        public void silence() {
+            original = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        @TearDown
+        public void restore() {
+            StepLogger.flush();
+            System.setOut(original);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Counter {
+        private long i;
+
+        long next() {
+            return i++;
+        }
+    }
+
+    @Benchmark
+    public void syncPrintln(Console console, Counter counter) {
+        long i = counter.next();
+        ExtentReportManager.logInfo("ℹ️ Picking " + i + " of SKU-1001");
+        System.out.println("INFO: Picking " + i + " of SKU-1001");
+    }
+
+    @Benchmark
+    public void asyncInfo(Console console, Counter counter) {
+        StepLogger.info("Picking " + counter.next() + " of SKU-1001");
+    }
+
+    @Benchmark
+    public void debugOff(Console console, Counter counter) {
+        long i = counter.next();
+        StepLogger.debug(() -> "Picking " + i + " of SKU-1001");
+    }
+
+    @Threads(1)
+    public static class OneThread extends StepLoggerBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends StepLoggerBenchmark {
+    }
+
+    @Threads(16)
+    public static class SixteenThreads extends StepLoggerBenchmark {
+    }
+}
@@ -4,16 +4,29 @@ import io.cucumber.java.After;
 import io.cucumber.java.AfterAll;
 import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeStep;
 import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
 import utils.BaseUtil;
+import utils.DomSnapshotBuffer;
+import utils.ExcelUtils;
 import utils.ExtentReportManager;
+import utils.FrameCapture;
+import utils.InventoryFixture;
+import utils.LazyElement;
+import utils.ScreenshotPolicy;
+import utils.ScreenshotStore;
 import utils.StepLogger;
+import utils.TestConfig;
+import utils.WarehouseDataManager;
 import utils.WebDriverConfig;
 
+import java.io.IOException;
+
 public class Hooks extends WebDriverConfig {
 
     BaseUtil baseUtil = new BaseUtil();
+    private int stepCount;
     
     /**
      * Initialize Extent Reports before all tests
@@ -24,6 +37,18 @@ public class Hooks extends WebDriverConfig {
         System.out.println("Extent Reports initialized successfully");
     }
     
+    /**
+     * Load the Excel test data once, before any scenario reads it
+     */
+    @BeforeAll
+    public static void preloadTestData() {
+        try {
+            ExcelUtils.preload();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Test data not preloaded, it will be read on first use: " + e.getMessage());
+        }
+    }
+    
     /**
      * @Before perform before operations which is to open browser and create test in report.
      */
@@ -33,6 +58,11 @@ public class Hooks extends WebDriverConfig {
         ExtentReportManager.createTest(scenario.getName(), "Cucumber Scenario: " + scenario.getName());
         StepLogger.info("Starting scenario: " + scenario.getName());
         
+        // Per-scenario capture state (policy tags, every-nth counter, last-k and DOM buffers)
+        ScreenshotPolicy.startScenario(scenario.getSourceTagNames());
+        DomSnapshotBuffer.clear();
+        FrameCapture.newStep();
+        
         // Open browser
         baseUtil.invokeBrowser();
         StepLogger.info("Browser launched successfully");
@@ -46,12 +76,15 @@ public class Hooks extends WebDriverConfig {
         try {
             // Check if scenario failed and capture screenshot
             if (scenario.isFailed()) {
+                // Nothing drives the browser any more - the sinks below share one frame
+                FrameCapture.holdFailureFrame();
                 StepLogger.failWithScreenshot("Scenario failed: " + scenario.getName());
                 ExtentReportManager.captureScreenshotOnFailure(scenario.getName());
+                ExtentReportManager.attachDomSnapshots();
                 
-                // Also attach screenshot to Cucumber report
-                if (getDriver() != null) {
-                    byte[] screenshot = ((org.openqa.selenium.TakesScreenshot) getDriver()).getScreenshotAs(org.openqa.selenium.OutputType.BYTES);
+                // Also attach screenshot to Cucumber report - same frame as the Extent entries above
+                byte[] screenshot = FrameCapture.captureForFailure();
+                if (screenshot != null) {
                     scenario.attach(screenshot, "image/png", "Screenshot on Failure");
                 }
             } else {
@@ -63,20 +96,35 @@ public class Hooks extends WebDriverConfig {
             StepLogger.fail("Error during teardown: " + e.getMessage());
         } finally {
             // Close browser
+            FrameCapture.newStep();
             baseUtil.closeBrowser();
+            WarehouseDataManager.getInstance().endScenario();
             
-            // Clean up thread local
-            ExtentReportManager.removeTest();
+            // Finish the test in the report (periodic flush) and clean up thread local
+            ExtentReportManager.endTest();
         }
     }
     
     /**
-     * @AfterStep to capture screenshot on step failure
+     * @BeforeStep drops the shared failure frame of the previous step
+     */
+    @BeforeStep
+    public void beforeStep() {
+        FrameCapture.newStep();
+    }
+    
+    /**
+     * @AfterStep to mark the step and capture screenshot and page state on step failure
      */
     @AfterStep
     public void afterStep(Scenario scenario) {
+        // Step marker only - the DOM is serialized just once, when a step fails
+        DomSnapshotBuffer.mark("step " + (++stepCount));
         if (scenario.isFailed()) {
+            // Remaining steps are skipped, so this frame is still current in the @After hook
+            FrameCapture.holdFailureFrame();
             StepLogger.failWithScreenshot("Step failed in scenario: " + scenario.getName());
+            ExtentReportManager.attachDomSnapshots();
         }
     }
     
@@ -86,6 +134,13 @@ public class Hooks extends WebDriverConfig {
     @AfterAll
     public static void tearDownReport() {
         ExtentReportManager.flushReport();
+        StepLogger.flush();
         System.out.println("Extent Reports generated at: " + ExtentReportManager.getReportPath());
+        System.out.println("Element cache: " + LazyElement.getStats());
+        System.out.println("Screenshots: " + ScreenshotStore.getStats());
+        System.out.println("Screenshot policy: " + ScreenshotPolicy.getStats());
+        System.out.println("Frame captures: " + FrameCapture.getStats());
+        System.out.println("Config: " + TestConfig.getStats());
+        System.out.println("Inventory fixtures: " + InventoryFixture.getStats());
     }
 }
@@ -3,7 +3,6 @@ package pages;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import utils.WebDriverConfig;
@@ -49,7 +48,7 @@ public abstract class BasePage extends WebDriverConfig {
         this.driver = getDriver();
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(30));
         this.dataManager = WarehouseDataManager.getInstance();
-        PageFactory.initElements(driver, this);
+        PageBindings.bind(this, driver);
         StepLogger.info("Initialized " + this.getClass().getSimpleName());
     }
     
@@ -122,6 +121,27 @@ public abstract class BasePage extends WebDriverConfig {
         }
     }
     
+    // Batch input - KEYSTROKES fields through enterText first, then SCRIPT fields in one round trip
+    protected void enterTextBatch(BatchInput batch, String description) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            for (BatchInput.Field field : batch.getFields(BatchInput.Fidelity.KEYSTROKES)) {
+                enterText(field.getElement(), field.getValue(), field.getFieldName());
+            }
+            // Same visibility wait enterText does, so a field that is not rendered yet fails the same way
+            for (BatchInput.Field field : batch.getFields(BatchInput.Fidelity.SCRIPT)) {
+                waitForElement(field.getElement());
+            }
+            int scripted = batch.applyScripted(driver);
+            StepLogger.pass("Entered " + batch.size() + " field(s) for " + description + " (" + scripted + " by script)");
+        } catch (Exception e) {
+            StepLogger.failWithScreenshot("Failed to enter batch input for " + description + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
     protected String getText(WebElement element, String elementName) {
         try {
             waitForElement(element);
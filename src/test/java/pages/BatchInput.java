@@ -0,0 +1,140 @@
+package pages;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Batch Input - Collects many field values and writes them to the page in a single script call
+ * Fields that need real keystrokes (autocomplete, key handlers) can be marked KEYSTROKES and are
+ * typed individually by the page, everything else is set in one round trip with input/change events.
+ */
+public class BatchInput {
+
+    /**
+     * How faithfully a field value is entered.
+     * SCRIPT - value set through the native setter followed by input and change events
+     * KEYSTROKES - clear + sendKeys, same as BasePage.enterText
+     */
+    public enum Fidelity {
+        SCRIPT,
+        KEYSTROKES
+    }
+
+    /**
+     * Uses the native value setter so frameworks that track the value property (React, Vue)
+     * see the change, then fires the events a real user edit would fire.
+     */
+    static final String FILL_SCRIPT =
+            "var fields = arguments[0], values = arguments[1];" +
+            "for (var i = 0; i < fields.length; i++) {" +
+            "  var el = fields[i];" +
+            "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype" +
+            "            : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype" +
+            "            : HTMLInputElement.prototype;" +
+            "  var setter = Object.getOwnPropertyDescriptor(proto, 'value').set;" +
+            "  el.focus();" +
+            "  setter.call(el, values[i]);" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  el.blur();" +
+            "}" +
+            "return fields.length;";
+
+    /**
+     * Single field entry in the batch
+     */
+    public static final class Field {
+        private final WebElement element;
+        private final String value;
+        private final String fieldName;
+        private final Fidelity fidelity;
+
+        Field(WebElement element, String value, String fieldName, Fidelity fidelity) {
+            this.element = element;
+            this.value = value;
+            this.fieldName = fieldName;
+            this.fidelity = fidelity;
+        }
+
+        public WebElement getElement() {
+            return element;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        public Fidelity getFidelity() {
+            return fidelity;
+        }
+    }
+
+    private final List<Field> fields = new ArrayList<>();
+
+    /**
+     * Add a field that is set by script
+     * Usage: batch.set(quantityInput, "10", "Quantity");
+     */
+    public BatchInput set(WebElement element, String value, String fieldName) {
+        return set(element, value, fieldName, Fidelity.SCRIPT);
+    }
+
+    /**
+     * Add a field with an explicit fidelity tier
+     * Usage: batch.set(itemCodeInput, "SKU-001", "Item Code", Fidelity.KEYSTROKES);
+     */
+    public BatchInput set(WebElement element, String value, String fieldName, Fidelity fidelity) {
+        fields.add(new Field(element, value == null ? "" : value, fieldName, fidelity));
+        return this;
+    }
+
+    public List<Field> getFields() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    public List<Field> getFields(Fidelity fidelity) {
+        List<Field> result = new ArrayList<>();
+        for (Field field : fields) {
+            if (field.fidelity == fidelity) {
+                result.add(field);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return fields.size();
+    }
+
+    public boolean isEmpty() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * Writes every SCRIPT field in one executeScript call and returns the number of fields set.
+     * KEYSTROKES fields are left to the caller.
+     */
+    public int applyScripted(WebDriver driver) {
+        List<Field> scripted = getFields(Fidelity.SCRIPT);
+        if (scripted.isEmpty()) {
+            return 0;
+        }
+        List<WebElement> elements = new ArrayList<>(scripted.size());
+        List<String> values = new ArrayList<>(scripted.size());
+        for (Field field : scripted) {
+            elements.add(field.element);
+            values.add(field.value);
+        }
+        Object count = ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, elements, values);
+        return count instanceof Number ? ((Number) count).intValue() : scripted.size();
+    }
+}
@@ -3,7 +3,10 @@ package pages;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.By;
+import utils.BulkRows;
 import utils.StepLogger;
+import utils.WarehouseRows.PalletLine;
+import utils.WarehouseRows.SkuLine;
 
 import java.util.List;
 import java.util.Map;
@@ -18,63 +21,65 @@ import java.util.stream.Collectors;
  */
 public class InboundShipmentPage extends BasePage {
     
-    // Page elements using Page Factory pattern
+    // Page elements - package-private so the generated binding can assign them
     @FindBy(id = "shipment-id-input")
-    private WebElement shipmentIdInput;
+    WebElement shipmentIdInput;
     
     @FindBy(id = "create-shipment-btn")
-    private WebElement createShipmentButton;
+    WebElement createShipmentButton;
     
     @FindBy(id = "pre-receiving-btn")
-    private WebElement preReceivingButton;
+    WebElement preReceivingButton;
     
     @FindBy(id = "appointment-number-input")
-    private WebElement appointmentNumberInput;
+    WebElement appointmentNumberInput;
     
     @FindBy(id = "create-appointment-btn")
-    private WebElement createAppointmentButton;
+    WebElement createAppointmentButton;
     
     @FindBy(id = "lot-number-input")
-    private WebElement lotNumberInput;
+    WebElement lotNumberInput;
     
     @FindBy(id = "assign-lot-btn")
-    private WebElement assignLotButton;
+    WebElement assignLotButton;
     
     @FindBy(id = "location-input")
-    private WebElement locationInput;
+    WebElement locationInput;
     
     @FindBy(id = "assign-location-btn")
-    private WebElement assignLocationButton;
+    WebElement assignLocationButton;
     
     @FindBy(id = "pallet-id-input")
-    private WebElement palletIdInput;
+    WebElement palletIdInput;
     
     @FindBy(id = "check-pallet-btn")
-    private WebElement checkPalletButton;
+    WebElement checkPalletButton;
     
     @FindBy(id = "complete-receiving-btn")
-    private WebElement completeReceivingButton;
+    WebElement completeReceivingButton;
     
     @FindBy(id = "create-receipt-btn")
-    private WebElement createReceiptButton;
+    WebElement createReceiptButton;
     
     @FindBy(id = "close-appointment-btn")
-    private WebElement closeAppointmentButton;
+    WebElement closeAppointmentButton;
     
     @FindBy(id = "print-receipt-btn")
-    private WebElement printReceiptButton;
+    WebElement printReceiptButton;
     
     @FindBy(id = "shipment-status")
-    private WebElement shipmentStatusElement;
+    WebElement shipmentStatusElement;
     
     @FindBy(className = "item-row")
-    private List<WebElement> itemRows;
+    List<WebElement> itemRows;
     
     @FindBy(className = "variance-indicator")
-    private List<WebElement> varianceIndicators;
+    List<WebElement> varianceIndicators;
     
     // Collections to store page data - demonstrates various collection types
     private final Map<String, Integer> expectedItems = new LinkedHashMap<>();
+    // Streamed shipment lines are not copied into expectedItems - reports re-read the file
+    private BulkRows<SkuLine> expectedSource;
     private final Map<String, Integer> receivedItems = new LinkedHashMap<>();
     private final Map<String, Set<String>> lotAssignments = new LinkedHashMap<>();
     private final Map<String, String> locationAssignments = new LinkedHashMap<>();
@@ -142,19 +147,28 @@ public class InboundShipmentPage extends BasePage {
         try {
             String shipmentId = (String) parameters.get("shipment_id");
             @SuppressWarnings("unchecked")
-            List<Map<String, Object>> items = (List<Map<String, Object>>) parameters.get("items");
+            Iterable<SkuLine> items = (Iterable<SkuLine>) parameters.get("items");
             
             enterText(shipmentIdInput, shipmentId, "Shipment ID");
             clickElement(createShipmentButton, "Create Shipment");
             
-            // Store expected items using collections
-            for (Map<String, Object> item : items) {
-                String sku = (String) item.get("sku");
-                Integer quantity = (Integer) item.get("quantity");
-                expectedItems.put(sku, quantity);
-                
-                // Store in data manager for cross-page access
-                dataManager.storeShipmentData(shipmentId, "expected_" + sku, quantity);
+            if (items instanceof BulkRows<SkuLine> bulk) {
+                // Streamed lines are only counted - one summary entry instead of one per line
+                long lines = 0;
+                for (SkuLine ignored : bulk) {
+                    lines++;
+                }
+                expectedSource = bulk;
+                dataManager.storeShipmentData(shipmentId, "expected_source", bulk.getName());
+                dataManager.storeShipmentData(shipmentId, "expected_lines", lines);
+            } else {
+                // Store expected items using collections
+                for (SkuLine item : items) {
+                    expectedItems.put(item.sku(), item.quantity());
+                    
+                    // Store in data manager for cross-page access
+                    dataManager.storeShipmentData(shipmentId, "expected_" + item.sku(), item.quantity());
+                }
             }
             
             StepLogger.passWithScreenshot("Shipment created successfully: " + shipmentId);
@@ -285,13 +299,12 @@ public class InboundShipmentPage extends BasePage {
     public boolean checkPallets(Map<String, Object> parameters) {
         try {
             @SuppressWarnings("unchecked")
-            List<Map<String, Object>> palletData = (List<Map<String, Object>>) parameters.get("pallets");
+            Iterable<PalletLine> palletData = (Iterable<PalletLine>) parameters.get("pallets");
             
-            for (Map<String, Object> pallet : palletData) {
-                String palletId = (String) pallet.get("pallet_id");
-                @SuppressWarnings("unchecked")
-                List<String> skus = (List<String>) pallet.get("skus");
-                String status = (String) pallet.get("status");
+            for (PalletLine pallet : palletData) {
+                String palletId = pallet.palletId();
+                List<String> skus = pallet.skus();
+                String status = pallet.status();
                 
                 checkSinglePallet(palletId, skus, status);
                 processedPallets.add(palletId);
@@ -376,7 +389,7 @@ public class InboundShipmentPage extends BasePage {
     
     // Stream operations for data analysis
     public Map<String, Integer> getVarianceReport() {
-        return expectedItems.entrySet().stream()
+        return getExpectedItems().entrySet().stream()
                 .collect(Collectors.toMap(
                     Map.Entry::getKey,
                     entry -> receivedItems.getOrDefault(entry.getKey(), 0) - entry.getValue()
@@ -428,7 +441,11 @@ public class InboundShipmentPage extends BasePage {
     
     // Getters for collections (demonstrating encapsulation)
     public Map<String, Integer> getExpectedItems() {
-        return new LinkedHashMap<>(expectedItems);
+        Map<String, Integer> items = new LinkedHashMap<>(expectedItems);
+        if (expectedSource != null) {
+            items.putAll(expectedSource.toMap(SkuLine::sku, SkuLine::quantity));
+        }
+        return items;
     }
     
     public Map<String, Integer> getReceivedItems() {
@@ -2,7 +2,9 @@ package pages;
 
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import utils.BulkRows;
 import utils.StepLogger;
+import utils.WarehouseRows.CountLine;
 import utils.BaseUtil;
 
 import java.util.*;
@@ -14,51 +16,54 @@ import java.util.stream.Collectors;
  */
 public class InventoryAdjustmentPage extends BasePage {
     
-    // Page elements using Page Factory pattern
+    // Page elements - package-private so the generated binding can assign them
     @FindBy(id = "item-code-input")
-    private WebElement itemCodeInput;
+    WebElement itemCodeInput;
     
     @FindBy(id = "adjustment-type-select")
-    private WebElement adjustmentTypeSelect;
+    WebElement adjustmentTypeSelect;
     
     @FindBy(id = "quantity-input")
-    private WebElement quantityInput;
+    WebElement quantityInput;
     
     @FindBy(id = "reason-input")
-    private WebElement reasonInput;
+    WebElement reasonInput;
     
     @FindBy(id = "location-input")
-    private WebElement locationInput;
+    WebElement locationInput;
     
     @FindBy(id = "reference-id-input")
-    private WebElement referenceIdInput;
+    WebElement referenceIdInput;
     
     @FindBy(id = "submit-adjustment-btn")
-    private WebElement submitAdjustmentButton;
+    WebElement submitAdjustmentButton;
     
     @FindBy(id = "cycle-count-btn")
-    private WebElement cycleCountButton;
+    WebElement cycleCountButton;
     
     @FindBy(id = "physical-count-input")
-    private WebElement physicalCountInput;
+    WebElement physicalCountInput;
     
     @FindBy(id = "approve-count-btn")
-    private WebElement approveCountButton;
+    WebElement approveCountButton;
     
     @FindBy(id = "adjustment-status")
-    private WebElement adjustmentStatusElement;
+    WebElement adjustmentStatusElement;
     
     @FindBy(className = "adjustment-row")
-    private List<WebElement> adjustmentRows;
+    List<WebElement> adjustmentRows;
     
     @FindBy(className = "variance-indicator")
-    private List<WebElement> varianceIndicators;
+    List<WebElement> varianceIndicators;
     
     // Collections for managing inventory adjustment data
     private final Map<String, Integer> systemQuantities = new LinkedHashMap<>();
     private final Map<String, Integer> physicalQuantities = new LinkedHashMap<>();
     private final Map<String, String> adjustmentReasons = new LinkedHashMap<>();
     private final Map<String, String> locationMappings = new LinkedHashMap<>();
+    // Streamed count lines are not copied into the quantity maps - reports re-read the file
+    private BulkRows<CountLine> countSource;
+    private String countSourceLocation;
     private final Set<String> processedAdjustments = new HashSet<>();
     private final List<String> adjustmentHistory = new ArrayList<>();
     private final Queue<String> pendingAdjustments = new LinkedList<>();
@@ -199,23 +204,29 @@ public class InventoryAdjustmentPage extends BasePage {
         try {
             String location = (String) parameters.get("location");
             @SuppressWarnings("unchecked")
-            List<Map<String, Object>> countData = (List<Map<String, Object>>) parameters.get("count_data");
+            Iterable<CountLine> countData = (Iterable<CountLine>) parameters.get("count_data");
             
             clickElement(cycleCountButton, "Cycle Count");
             
-            for (Map<String, Object> count : countData) {
-                String itemCode = (String) count.get("item_code");
-                Integer systemQty = (Integer) count.get("system_quantity");
-                Integer physicalQty = (Integer) count.get("physical_quantity");
+            // A streamed count keeps only the lines with a variance (they drive the approval)
+            boolean streamed = countData instanceof BulkRows<CountLine>;
+            for (CountLine count : countData) {
+                String itemCode = count.sku();
+                Integer systemQty = count.systemQuantity();
+                Integer physicalQty = count.physicalQuantity();
                 
                 // Store count data
-                systemQuantities.put(itemCode, systemQty);
-                physicalQuantities.put(itemCode, physicalQty);
-                locationMappings.put(itemCode, location);
+                if (!streamed) {
+                    systemQuantities.put(itemCode, systemQty);
+                    physicalQuantities.put(itemCode, physicalQty);
+                    locationMappings.put(itemCode, location);
+                }
                 
-                // Enter physical count
-                enterText(itemCodeInput, itemCode, "Item Code");
-                enterText(physicalCountInput, physicalQty.toString(), "Physical Count");
+                // Item code keeps real keystrokes for the lookup, the count is set by script
+                enterTextBatch(new BatchInput()
+                        .set(itemCodeInput, itemCode, "Item Code", BatchInput.Fidelity.KEYSTROKES)
+                        .set(physicalCountInput, physicalQty.toString(), "Physical Count"),
+                        "cycle count line " + itemCode);
                 
                 // Calculate variance
                 int variance = physicalQty - systemQty;
@@ -226,8 +237,16 @@ public class InventoryAdjustmentPage extends BasePage {
                 }
                 
                 // Store in data manager
-                dataManager.storeShipmentData("CYCLE_COUNT_" + location, itemCode + "_system", systemQty);
-                dataManager.storeShipmentData("CYCLE_COUNT_" + location, itemCode + "_physical", physicalQty);
+                if (!streamed) {
+                    dataManager.storeShipmentData("CYCLE_COUNT_" + location, itemCode + "_system", systemQty);
+                    dataManager.storeShipmentData("CYCLE_COUNT_" + location, itemCode + "_physical", physicalQty);
+                }
+            }
+            if (countData instanceof BulkRows<CountLine> bulk) {
+                countSource = bulk;
+                countSourceLocation = location;
+                dataManager.storeShipmentData("CYCLE_COUNT_" + location, "count_source", bulk.getName());
+                dataManager.storeShipmentData("CYCLE_COUNT_" + location, "count_lines", bulk.getRowCount());
             }
             
             StepLogger.passWithScreenshot("Cycle count completed for location: " + location);
@@ -266,6 +285,7 @@ public class InventoryAdjustmentPage extends BasePage {
             List<String> itemCodes = (List<String>) parameters.get("item_codes");
             
             boolean allValid = true;
+            Map<String, Integer> physical = getPhysicalQuantities();
             
             for (String itemCode : itemCodes) {
                 // Get inventory by item code using the specified API
@@ -275,7 +295,7 @@ public class InventoryAdjustmentPage extends BasePage {
                     var inventoryData = dataManager.extractInventoryDataFromJSON(response);
                     
                     // Validate against stored data
-                    Integer expectedQty = physicalQuantities.get(itemCode);
+                    Integer expectedQty = physical.get(itemCode);
                     Integer actualQty = (Integer) inventoryData.get("totalQuantity");
                     
                     if (expectedQty != null && !expectedQty.equals(actualQty)) {
@@ -307,14 +327,16 @@ public class InventoryAdjustmentPage extends BasePage {
     // Helper methods
     private void performSingleAdjustment(String itemCode, String adjustmentType, int quantity, String reason, String location) {
         try {
+            // Item code drives the item lookup and the type may reset dependent fields - both go first, as typed input
             enterText(itemCodeInput, itemCode, "Item Code");
             selectFromDropdown(adjustmentTypeSelect, adjustmentType, "Adjustment Type");
-            enterText(quantityInput, String.valueOf(quantity), "Quantity");
-            enterText(reasonInput, reason, "Reason");
-            enterText(locationInput, location, "Location");
-            
             String referenceId = "ADJ-" + System.currentTimeMillis();
-            enterText(referenceIdInput, referenceId, "Reference ID");
+            enterTextBatch(new BatchInput()
+                    .set(quantityInput, String.valueOf(quantity), "Quantity")
+                    .set(reasonInput, reason, "Reason")
+                    .set(locationInput, location, "Location")
+                    .set(referenceIdInput, referenceId, "Reference ID"),
+                    "adjustment " + itemCode);
             
             clickElement(submitAdjustmentButton, "Submit Adjustment");
             
@@ -344,10 +366,11 @@ public class InventoryAdjustmentPage extends BasePage {
     
     // Stream operations for data analysis
     public Map<String, Integer> getVarianceReport() {
-        return systemQuantities.entrySet().stream()
+        Map<String, Integer> physical = getPhysicalQuantities();
+        return getSystemQuantities().entrySet().stream()
                 .collect(Collectors.toMap(
                     Map.Entry::getKey,
-                    entry -> physicalQuantities.getOrDefault(entry.getKey(), 0) - entry.getValue()
+                    entry -> physical.getOrDefault(entry.getKey(), 0) - entry.getValue()
                 ));
     }
     
@@ -390,11 +413,19 @@ public class InventoryAdjustmentPage extends BasePage {
     
     // Getters for collections (demonstrating encapsulation)
     public Map<String, Integer> getSystemQuantities() {
-        return new LinkedHashMap<>(systemQuantities);
+        Map<String, Integer> quantities = new LinkedHashMap<>(systemQuantities);
+        if (countSource != null) {
+            quantities.putAll(countSource.toMap(CountLine::sku, CountLine::systemQuantity));
+        }
+        return quantities;
     }
     
     public Map<String, Integer> getPhysicalQuantities() {
-        return new LinkedHashMap<>(physicalQuantities);
+        Map<String, Integer> quantities = new LinkedHashMap<>(physicalQuantities);
+        if (countSource != null) {
+            quantities.putAll(countSource.toMap(CountLine::sku, CountLine::physicalQuantity));
+        }
+        return quantities;
     }
     
     public Map<String, String> getAdjustmentReasons() {
@@ -402,7 +433,11 @@ public class InventoryAdjustmentPage extends BasePage {
     }
     
     public Map<String, String> getLocationMappings() {
-        return new LinkedHashMap<>(locationMappings);
+        Map<String, String> mappings = new LinkedHashMap<>(locationMappings);
+        if (countSource != null) {
+            mappings.putAll(countSource.toMap(CountLine::sku, count -> countSourceLocation));
+        }
+        return mappings;
     }
     
     public Set<String> getProcessedAdjustments() {
@@ -6,7 +6,6 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.testng.Assert;
 import utils.BaseUtil;
 import utils.ExcelUtils;
@@ -17,7 +16,7 @@ import java.util.Map;
 
 /**
  * This class Contains locators for Login Page along with basic methods used in the page.
- * Page Factory is used to Find Web elements.
+ * @FindBy fields are bound by the generated PageBindings class.
  */
 public class LoginPage {
     private WebDriver driver;
@@ -26,7 +25,7 @@ public class LoginPage {
     public LoginPage(WebDriver driver) {
         this.driver = driver;
         this.baseUtil = new BaseUtil();
-        PageFactory.initElements(this.driver,this);
+        PageBindings.bind(this, this.driver);
 
     }
 
@@ -39,6 +38,12 @@ public class LoginPage {
     @FindBy(xpath = "//input[@type='submit']")
     public WebElement login;
 
+    /**
+     * One row of the login sheet in the test-data workbook
+     */
+    public record Credentials(int sno, String username, String password) {
+    }
+
     public void login_ace(String username, String pass) throws IOException {
         driver.findElement(By.xpath("//input[@type='submit']"));
 //        Assert.fail();
@@ -49,14 +54,12 @@ public class LoginPage {
         js.executeScript("arguments[0].click();",login);
         Actions actions = new Actions(driver);
 
-        String usrName = ExcelUtils.readCell(2,"Username","Sheet1");
+        String usrName = ExcelUtils.readRow("Sheet1", 2, Credentials.class).username();
         System.out.println(usrName+"------------------------------------------------");
 
         LinkedHashMap<String,String> uidPwd = new LinkedHashMap<>();
-        for (int i = 1; i<=4;i++){
-            String utemp = ExcelUtils.readCell(i,"Username","Sheet1");
-            String ptemp = ExcelUtils.readCell(i,"Password","Sheet1");
-            uidPwd.put(utemp,ptemp);
+        for (Credentials credentials : ExcelUtils.readRows("Sheet1", Credentials.class, c -> c.sno() >= 1 && c.sno() <= 4)){
+            uidPwd.put(credentials.username(), credentials.password());
         }
         System.out.println(uidPwd+"------------------------------------------------");
 
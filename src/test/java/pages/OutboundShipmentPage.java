@@ -2,7 +2,10 @@ package pages;
 
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import utils.BulkRows;
 import utils.StepLogger;
+import utils.WarehouseRows.PickLine;
+import utils.WarehouseRows.SkuLine;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -13,57 +16,59 @@ import java.util.stream.Collectors;
  */
 public class OutboundShipmentPage extends BasePage {
     
-    // Page elements using Page Factory pattern
+    // Page elements - package-private so the generated binding can assign them
     @FindBy(id = "order-id-input")
-    private WebElement orderIdInput;
+    WebElement orderIdInput;
     
     @FindBy(id = "create-order-btn")
-    private WebElement createOrderButton;
+    WebElement createOrderButton;
     
     @FindBy(id = "order-change-btn")
-    private WebElement orderChangeButton;
+    WebElement orderChangeButton;
     
     @FindBy(id = "appointment-number-input")
-    private WebElement appointmentNumberInput;
+    WebElement appointmentNumberInput;
     
     @FindBy(id = "create-appointment-btn")
-    private WebElement createAppointmentButton;
+    WebElement createAppointmentButton;
     
     @FindBy(id = "pool-number-input")
-    private WebElement poolNumberInput;
+    WebElement poolNumberInput;
     
     @FindBy(id = "assign-pool-btn")
-    private WebElement assignPoolButton;
+    WebElement assignPoolButton;
     
     @FindBy(id = "print-order-btn")
-    private WebElement printOrderButton;
+    WebElement printOrderButton;
     
     @FindBy(id = "pallet-id-input")
-    private WebElement palletIdInput;
+    WebElement palletIdInput;
     
     @FindBy(id = "assign-pallet-btn")
-    private WebElement assignPalletButton;
+    WebElement assignPalletButton;
     
     @FindBy(id = "complete-pick-btn")
-    private WebElement completePickButton;
+    WebElement completePickButton;
     
     @FindBy(id = "close-appointment-btn")
-    private WebElement closeAppointmentButton;
+    WebElement closeAppointmentButton;
     
     @FindBy(id = "confirm-order-btn")
-    private WebElement confirmOrderButton;
+    WebElement confirmOrderButton;
     
     @FindBy(id = "order-status")
-    private WebElement orderStatusElement;
+    WebElement orderStatusElement;
     
     @FindBy(className = "item-row")
-    private List<WebElement> itemRows;
+    List<WebElement> itemRows;
     
     @FindBy(className = "shortage-indicator")
-    private List<WebElement> shortageIndicators;
+    List<WebElement> shortageIndicators;
     
     // Collections for managing outbound data
     private final Map<String, Integer> orderedItems = new LinkedHashMap<>();
+    // Streamed order lines are not copied into orderedItems - reports re-read the file
+    private BulkRows<SkuLine> orderedSource;
     private final Map<String, Integer> pickedItems = new LinkedHashMap<>();
     private final Map<String, String> palletAssignments = new LinkedHashMap<>();
     private final Map<String, String> poolAssignments = new LinkedHashMap<>();
@@ -138,19 +143,28 @@ public class OutboundShipmentPage extends BasePage {
         try {
             String orderId = (String) parameters.get("order_id");
             @SuppressWarnings("unchecked")
-            List<Map<String, Object>> items = (List<Map<String, Object>>) parameters.get("items");
+            Iterable<SkuLine> items = (Iterable<SkuLine>) parameters.get("items");
             
             enterText(orderIdInput, orderId, "Order ID");
             clickElement(createOrderButton, "Create Order");
             
-            // Store ordered items using collections
-            for (Map<String, Object> item : items) {
-                String sku = (String) item.get("sku");
-                Integer quantity = (Integer) item.get("quantity");
-                orderedItems.put(sku, quantity);
-                
-                // Store in data manager for cross-page access
-                dataManager.storeOrderData(orderId, "ordered_" + sku, quantity);
+            if (items instanceof BulkRows<SkuLine> bulk) {
+                // Streamed lines are only counted - one summary entry instead of one per line
+                long lines = 0;
+                for (SkuLine ignored : bulk) {
+                    lines++;
+                }
+                orderedSource = bulk;
+                dataManager.storeOrderData(orderId, "ordered_source", bulk.getName());
+                dataManager.storeOrderData(orderId, "ordered_lines", lines);
+            } else {
+                // Store ordered items using collections
+                for (SkuLine item : items) {
+                    orderedItems.put(item.sku(), item.quantity());
+                    
+                    // Store in data manager for cross-page access
+                    dataManager.storeOrderData(orderId, "ordered_" + item.sku(), item.quantity());
+                }
             }
             
             StepLogger.passWithScreenshot("Order created successfully: " + orderId);
@@ -235,12 +249,12 @@ public class OutboundShipmentPage extends BasePage {
     public boolean completePick(Map<String, Object> parameters) {
         try {
             @SuppressWarnings("unchecked")
-            List<Map<String, Object>> pickData = (List<Map<String, Object>>) parameters.get("pick_data");
+            Iterable<PickLine> pickData = (Iterable<PickLine>) parameters.get("pick_data");
             
-            for (Map<String, Object> pick : pickData) {
-                String sku = (String) pick.get("sku");
-                String palletId = (String) pick.get("pallet_id");
-                Integer quantity = (Integer) pick.get("quantity");
+            for (PickLine pick : pickData) {
+                String sku = pick.sku();
+                String palletId = pick.palletId();
+                int quantity = pick.quantity();
                 
                 // Assign pallet and record picked quantity
                 assignPalletToSku(sku, palletId);
@@ -351,7 +365,7 @@ public class OutboundShipmentPage extends BasePage {
     
     // Stream operations for data analysis
     public Map<String, Integer> getShortageReport() {
-        return orderedItems.entrySet().stream()
+        return getOrderedItems().entrySet().stream()
                 .collect(Collectors.toMap(
                     Map.Entry::getKey,
                     entry -> entry.getValue() - pickedItems.getOrDefault(entry.getKey(), 0)
@@ -391,7 +405,11 @@ public class OutboundShipmentPage extends BasePage {
     
     // Getters for collections (demonstrating encapsulation)
     public Map<String, Integer> getOrderedItems() {
-        return new LinkedHashMap<>(orderedItems);
+        Map<String, Integer> items = new LinkedHashMap<>(orderedItems);
+        if (orderedSource != null) {
+            items.putAll(orderedSource.toMap(SkuLine::sku, SkuLine::quantity));
+        }
+        return items;
     }
     
     public Map<String, Integer> getPickedItems() {
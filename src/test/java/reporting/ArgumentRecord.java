@@ -0,0 +1,7 @@
+package reporting;
+
+/**
+ * ArgumentRecord - Value a step definition matched in the step text, with its offset into the text
+ */
+public record ArgumentRecord(String value, int offset) {
+}
@@ -0,0 +1,15 @@
+package reporting;
+
+/**
+ * AttachmentRecord - Data attached through scenario.attach / scenario.log
+ * Binary attachments are written to the side directory by AttachmentSink; they then carry a path
+ * (relative to the report files) instead of data. stepIndex is the step it was attached during -
+ * the step count when attached from a hook. hookIndex is the position of the hook it was attached
+ * from in ScenarioRecord.getHooks(), or -1 when attached from a step.
+ */
+public record AttachmentRecord(String name, String mediaType, byte[] data, String path, int stepIndex, int hookIndex) {
+
+    public boolean isExternal() {
+        return path != null;
+    }
+}
@@ -0,0 +1,77 @@
+package reporting;
+
+import utils.ScreenshotWriter;
+
+import java.io.File;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AttachmentSink - Moves binary attachments out of the report files into a side directory
+ * scenario.attach(png, "image/png", ...) used to be base64-embedded in every report, adding a third to
+ * its size and making every consumer decode image data. Non-text attachments are now named by their
+ * SHA-1, written once on the ScreenshotWriter threads and referenced by relative path. Text stays inline.
+ */
+public class AttachmentSink {
+
+    private final File directory;
+    private final String referencePrefix;
+    private final Set<String> stored = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param basePath report base path, e.g. target/cucumber-reports/TestRunner -> TestRunner-attachments/
+     */
+    public AttachmentSink(String basePath) {
+        this.directory = new File(basePath + "-attachments");
+        this.referencePrefix = directory.getName() + "/";
+    }
+
+    public AttachmentRecord externalize(AttachmentRecord attachment) {
+        if (attachment.isExternal() || isText(attachment.mediaType())) {
+            return attachment;
+        }
+        String fileName = sha1(attachment.data()) + "." + extension(attachment.mediaType());
+        if (stored.add(fileName)) {
+            ScreenshotWriter.write(new File(directory, fileName), attachment.data());
+        }
+        return new AttachmentRecord(attachment.name(), attachment.mediaType(), null, referencePrefix + fileName, attachment.stepIndex(),
+                attachment.hookIndex());
+    }
+
+    /**
+     * Block until every attachment is on disk - called before the reports referencing them are final
+     */
+    public void awaitWritten() {
+        ScreenshotWriter.awaitPending();
+    }
+
+    private static boolean isText(String mediaType) {
+        return mediaType.startsWith("text/") && !"text/html".equals(mediaType);
+    }
+
+    private static String extension(String mediaType) {
+        return switch (mediaType.toLowerCase(Locale.ROOT)) {
+            case "image/png" -> "png";
+            case "image/jpeg", "image/jpg" -> "jpg";
+            case "image/gif" -> "gif";
+            case "image/svg+xml" -> "svg";
+            case "text/html" -> "html";
+            case "application/json" -> "json";
+            case "application/pdf" -> "pdf";
+            case "video/mp4" -> "mp4";
+            default -> "bin";
+        };
+    }
+
+    private static String sha1(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package reporting;
+
+/**
+ * BackgroundRecord - The Background block a step comes from, as written in the feature file
+ */
+public record BackgroundRecord(String keyword, String name, int line) {
+}
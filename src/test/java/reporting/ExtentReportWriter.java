@@ -0,0 +1,42 @@
+package reporting;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import utils.ExtentReportManager;
+
+import java.util.Locale;
+
+/**
+ * ExtentReportWriter - Adds the Gherkin steps to the scenario's test in ExtentReportManager's report
+ * Replaces the ExtentCucumberAdapter, which built a second Spark report from the same events.
+ * Steps are logged on the scenario thread as they finish, next to the StepLogger entries of that step.
+ */
+public class ExtentReportWriter implements ReportWriter {
+
+    @Override
+    public void stepFinished(ScenarioRecord scenario, StepRecord step) {
+        ExtentTest test = ExtentReportManager.getTest();
+        if (test == null) {
+            return;
+        }
+        // The test is created by the @Before hook, after TestCaseStarted - tag it with the first step
+        if (scenario.getSteps().size() == 1 && !scenario.getTags().isEmpty()) {
+            test.assignCategory(scenario.getTags().toArray(new String[0]));
+        }
+        String details = "<b>" + step.keyword() + "</b> " + step.text()
+                + " <i>(" + step.durationNanos() / 1_000_000 + " ms)</i>";
+        if (step.errorMessage() != null) {
+            details += "<pre>" + step.errorMessage().lines().findFirst().orElse("") + "</pre>";
+        }
+        test.log(toStatus(step.status()), details);
+    }
+
+    private static Status toStatus(String status) {
+        return switch (status.toUpperCase(Locale.ROOT)) {
+            case "PASSED" -> Status.PASS;
+            case "FAILED", "AMBIGUOUS" -> Status.FAIL;
+            case "SKIPPED" -> Status.SKIP;
+            default -> Status.WARNING;
+        };
+    }
+}
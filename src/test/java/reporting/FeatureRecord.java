@@ -0,0 +1,14 @@
+package reporting;
+
+import java.util.List;
+
+/**
+ * FeatureRecord - Feature a scenario belongs to, as parsed from its Gherkin document
+ * The keyword is the localized one (e.g. "Fonctionnalité") and the description is kept as written.
+ */
+public record FeatureRecord(String keyword, String name, String description, int line, List<TagRecord> tags) {
+
+    public FeatureRecord {
+        tags = List.copyOf(tags);
+    }
+}
@@ -0,0 +1,9 @@
+package reporting;
+
+/**
+ * HookRecord - One executed hook of a scenario (BEFORE, AFTER, BEFORE_STEP or AFTER_STEP)
+ * stepIndex is the number of steps recorded when the hook finished: a BEFORE_STEP hook of step i has
+ * stepIndex i, an AFTER_STEP hook of step i has stepIndex i + 1.
+ */
+public record HookRecord(String type, String location, String status, long durationNanos, String errorMessage, int stepIndex) {
+}
@@ -0,0 +1,126 @@
+package reporting;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+
+/**
+ * JUnitXmlReportWriter - JUnit XML report (one testsuite, one testcase per scenario) for CI test tabs
+ * Step lines go to system-out like the built-in junit formatter; failed, pending and undefined
+ * scenarios are failures, skipped scenarios are skipped.
+ */
+public class JUnitXmlReportWriter implements ReportWriter {
+
+    private final File file;
+    private final File partFile;
+    private OutputStream part;
+    private int tests;
+    private int failures;
+    private int skipped;
+    private long totalNanos;
+
+    public JUnitXmlReportWriter(String path) {
+        this.file = new File(path);
+        this.partFile = new File(path + ".part");
+    }
+
+    /**
+     * Testcases are rendered as scenarios finish and spooled to a side file - only the counts stay in memory
+     */
+    @Override
+    public synchronized void scenarioFinished(ScenarioRecord scenario) throws IOException {
+        if (part == null) {
+            if (partFile.getParentFile() != null) {
+                partFile.getParentFile().mkdirs();
+            }
+            part = new BufferedOutputStream(new FileOutputStream(partFile));
+        }
+        tests++;
+        if (isFailure(scenario)) {
+            failures++;
+        } else if ("SKIPPED".equals(scenario.getStatus())) {
+            skipped++;
+        }
+        totalNanos += scenario.getDurationNanos();
+        try {
+            XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(part, "UTF-8");
+            writeTestCase(xml, scenario);
+            xml.flush();
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to write testcase " + scenario.getName(), e);
+        }
+    }
+
+    @Override
+    public synchronized void runFinished() throws IOException {
+        if (part != null) {
+            part.close();
+            part = null;
+        }
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            out.write(String.format(Locale.ROOT, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                            + "<testsuite name=\"io.cucumber.core.plugin.JUnitFormatter\" tests=\"%d\" failures=\"%d\""
+                            + " skipped=\"%d\" errors=\"0\" time=\"%s\">",
+                    tests, failures, skipped, seconds(totalNanos)).getBytes(StandardCharsets.UTF_8));
+            if (partFile.exists()) {
+                Files.copy(partFile.toPath(), out);
+            }
+            out.write("</testsuite>\n".getBytes(StandardCharsets.UTF_8));
+        } finally {
+            Files.deleteIfExists(partFile.toPath());
+        }
+    }
+
+    private static void writeTestCase(XMLStreamWriter xml, ScenarioRecord scenario) throws XMLStreamException {
+        xml.writeStartElement("testcase");
+        xml.writeAttribute("classname", scenario.getFeature().name());
+        xml.writeAttribute("name", scenario.getName());
+        xml.writeAttribute("time", seconds(scenario.getDurationNanos()));
+
+        StringBuilder steps = new StringBuilder();
+        for (StepRecord step : scenario.getSteps()) {
+            String line = step.keyword() + " " + step.text();
+            steps.append(line).append(".".repeat(Math.max(3, 76 - line.length())))
+                    .append(step.status().toLowerCase(Locale.ROOT)).append('\n');
+        }
+
+        if (isFailure(scenario)) {
+            String error = scenario.getErrorMessage() != null ? scenario.getErrorMessage() : "The scenario has " + scenario.getStatus().toLowerCase(Locale.ROOT) + " steps";
+            xml.writeStartElement("failure");
+            xml.writeAttribute("message", error.lines().findFirst().orElse(""));
+            xml.writeAttribute("type", scenario.getStatus().toLowerCase(Locale.ROOT));
+            xml.writeCharacters(steps + "\nStackTrace:\n" + error);
+            xml.writeEndElement();
+        } else {
+            if ("SKIPPED".equals(scenario.getStatus())) {
+                xml.writeEmptyElement("skipped");
+            }
+            xml.writeStartElement("system-out");
+            xml.writeCharacters(steps.toString());
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+    }
+
+    private static boolean isFailure(ScenarioRecord scenario) {
+        return switch (scenario.getStatus()) {
+            case "FAILED", "PENDING", "UNDEFINED", "AMBIGUOUS" -> true;
+            default -> false;
+        };
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000_000.0);
+    }
+}
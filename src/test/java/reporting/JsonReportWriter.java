@@ -0,0 +1,278 @@
+package reporting;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * JsonReportWriter - Cucumber JSON report in the shape of the built-in json formatter
+ * Features are listed in the order their first scenario started. Background steps form their own
+ * "background" element, hooks are written as before/after entries of the scenario or step, and
+ * attachments become embeddings of the step or hook they were made in.
+ * The document is only complete at the end, so every scenario is held until then - prefer the .ndjson
+ * stream and NdjsonToLegacyJson for long runs.
+ */
+public class JsonReportWriter implements ReportWriter {
+
+    private static final String LOG_MEDIA_TYPE = "text/x.cucumber.log+plain";
+
+    private final File file;
+    private final List<ScenarioRecord> scenarios = new ArrayList<>();
+
+    public JsonReportWriter(String path) {
+        this.file = new File(path);
+    }
+
+    @Override
+    public synchronized void scenarioFinished(ScenarioRecord scenario) {
+        scenarios.add(scenario);
+    }
+
+    @Override
+    public synchronized void runFinished() throws IOException {
+        scenarios.sort(Comparator.comparingLong(ScenarioRecord::getStartMillis));
+        Map<URI, List<ScenarioRecord>> features = new LinkedHashMap<>();
+        for (ScenarioRecord scenario : scenarios) {
+            features.computeIfAbsent(scenario.getUri(), uri -> new ArrayList<>()).add(scenario);
+        }
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try (JsonGenerator json = new JsonFactory().createGenerator(file, JsonEncoding.UTF8)) {
+            json.useDefaultPrettyPrinter();
+            json.writeStartArray();
+            for (List<ScenarioRecord> featureScenarios : features.values()) {
+                writeFeature(json, featureScenarios);
+            }
+            json.writeEndArray();
+        }
+    }
+
+    private static void writeFeature(JsonGenerator json, List<ScenarioRecord> scenarios) throws IOException {
+        ScenarioRecord first = scenarios.get(0);
+        FeatureRecord feature = first.getFeature();
+        json.writeStartObject();
+        json.writeNumberField("line", feature.line());
+        json.writeStringField("uri", first.getUri().toString());
+        json.writeStringField("id", toId(feature.name()));
+        json.writeStringField("keyword", feature.keyword());
+        json.writeStringField("name", feature.name());
+        json.writeStringField("description", feature.description());
+        json.writeArrayFieldStart("tags");
+        for (TagRecord tag : feature.tags()) {
+            json.writeStartObject();
+            json.writeStringField("name", tag.name());
+            json.writeStringField("type", "Tag");
+            json.writeObjectFieldStart("location");
+            json.writeNumberField("line", tag.line());
+            json.writeNumberField("column", tag.column());
+            json.writeEndObject();
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeArrayFieldStart("elements");
+        for (ScenarioRecord scenario : scenarios) {
+            writeScenario(json, scenario);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    /**
+     * Background steps go into a separate "background" element ahead of the scenario, as the built-in
+     * formatter writes them; scenario hooks become the scenario's "before"/"after" entries.
+     */
+    private static void writeScenario(JsonGenerator json, ScenarioRecord scenario) throws IOException {
+        List<StepRecord> steps = scenario.getSteps();
+        int firstScenarioStep = 0;
+        while (firstScenarioStep < steps.size() && steps.get(firstScenarioStep).background() != null) {
+            firstScenarioStep++;
+        }
+        if (firstScenarioStep > 0) {
+            BackgroundRecord background = steps.get(0).background();
+            json.writeStartObject();
+            json.writeNumberField("line", background.line());
+            json.writeStringField("name", background.name());
+            json.writeStringField("description", "");
+            json.writeStringField("type", "background");
+            json.writeStringField("keyword", background.keyword());
+            json.writeArrayFieldStart("steps");
+            for (int i = 0; i < firstScenarioStep; i++) {
+                writeStep(json, scenario, i);
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+
+        json.writeStartObject();
+        json.writeStringField("start_timestamp", Instant.ofEpochMilli(scenario.getStartMillis()).toString());
+        writeHooks(json, "before", scenario, hook -> "BEFORE".equals(hook.type()));
+        json.writeNumberField("line", scenario.getLine());
+        json.writeStringField("name", scenario.getName());
+        json.writeStringField("description", "");
+        json.writeStringField("id", toId(scenario.getFeature().name()) + ";" + toId(scenario.getName()));
+        writeHooks(json, "after", scenario, hook -> "AFTER".equals(hook.type()));
+        json.writeStringField("type", "scenario");
+        json.writeStringField("keyword", scenario.getKeyword());
+        json.writeArrayFieldStart("steps");
+        for (int i = firstScenarioStep; i < steps.size(); i++) {
+            writeStep(json, scenario, i);
+        }
+        json.writeEndArray();
+        if (!scenario.getTags().isEmpty()) {
+            json.writeArrayFieldStart("tags");
+            for (String tag : scenario.getTags()) {
+                json.writeStartObject();
+                json.writeStringField("name", tag);
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+        json.writeEndObject();
+    }
+
+    private static void writeStep(JsonGenerator json, ScenarioRecord scenario, int stepIndex) throws IOException {
+        StepRecord step = scenario.getSteps().get(stepIndex);
+        json.writeStartObject();
+        writeResult(json, step.status(), step.durationNanos(), step.errorMessage());
+        json.writeNumberField("line", step.line());
+        json.writeStringField("name", step.text());
+        writeMatch(json, step.location(), step.arguments());
+        json.writeStringField("keyword", step.keyword() + " ");
+        // BEFORE_STEP hooks of step i finish with i steps recorded, AFTER_STEP hooks with i + 1
+        writeHooks(json, "before", scenario, hook -> "BEFORE_STEP".equals(hook.type()) && hook.stepIndex() == stepIndex);
+        writeHooks(json, "after", scenario, hook -> "AFTER_STEP".equals(hook.type()) && hook.stepIndex() == stepIndex + 1);
+        boolean lastStep = stepIndex == scenario.getSteps().size() - 1;
+        writeEmbeddings(json, attachmentsOf(scenario, attachment -> attachment.hookIndex() < 0
+                && (attachment.stepIndex() == stepIndex || (lastStep && attachment.stepIndex() > stepIndex))));
+        json.writeEndObject();
+    }
+
+    private static void writeHooks(JsonGenerator json, String field, ScenarioRecord scenario, Predicate<HookRecord> filter)
+            throws IOException {
+        List<HookRecord> hooks = scenario.getHooks();
+        boolean started = false;
+        for (int i = 0; i < hooks.size(); i++) {
+            HookRecord hook = hooks.get(i);
+            if (!filter.test(hook)) {
+                continue;
+            }
+            if (!started) {
+                json.writeArrayFieldStart(field);
+                started = true;
+            }
+            int hookIndex = i;
+            json.writeStartObject();
+            writeResult(json, hook.status(), hook.durationNanos(), hook.errorMessage());
+            writeMatch(json, hook.location(), List.of());
+            writeEmbeddings(json, attachmentsOf(scenario, attachment -> attachment.hookIndex() == hookIndex));
+            json.writeEndObject();
+        }
+        if (started) {
+            json.writeEndArray();
+        }
+    }
+
+    private static void writeResult(JsonGenerator json, String status, long durationNanos, String errorMessage) throws IOException {
+        json.writeObjectFieldStart("result");
+        json.writeStringField("status", status.toLowerCase(Locale.ROOT));
+        if (durationNanos > 0) {
+            json.writeNumberField("duration", durationNanos);
+        }
+        if (errorMessage != null) {
+            json.writeStringField("error_message", errorMessage);
+        }
+        json.writeEndObject();
+    }
+
+    private static void writeMatch(JsonGenerator json, String location, List<ArgumentRecord> arguments) throws IOException {
+        json.writeObjectFieldStart("match");
+        if (!arguments.isEmpty()) {
+            json.writeArrayFieldStart("arguments");
+            for (ArgumentRecord argument : arguments) {
+                json.writeStartObject();
+                json.writeStringField("val", argument.value());
+                json.writeNumberField("offset", argument.offset());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+        if (location != null) {
+            json.writeStringField("location", location);
+        }
+        json.writeEndObject();
+    }
+
+    /**
+     * scenario.log text goes to "output", everything else to "embeddings"
+     */
+    private static void writeEmbeddings(JsonGenerator json, List<AttachmentRecord> attachments) throws IOException {
+        List<AttachmentRecord> embeddings = new ArrayList<>();
+        List<String> output = new ArrayList<>();
+        for (AttachmentRecord attachment : attachments) {
+            if (LOG_MEDIA_TYPE.equals(attachment.mediaType()) && !attachment.isExternal()) {
+                output.add(new String(attachment.data(), StandardCharsets.UTF_8));
+            } else {
+                embeddings.add(attachment);
+            }
+        }
+        if (!output.isEmpty()) {
+            json.writeArrayFieldStart("output");
+            for (String text : output) {
+                json.writeString(text);
+            }
+            json.writeEndArray();
+        }
+        if (embeddings.isEmpty()) {
+            return;
+        }
+        json.writeArrayFieldStart("embeddings");
+        for (AttachmentRecord attachment : embeddings) {
+            json.writeStartObject();
+            json.writeStringField("mime_type", attachment.mediaType());
+            if (attachment.name() != null) {
+                json.writeStringField("name", attachment.name());
+            }
+            if (attachment.isExternal()) {
+                // Reference into the side directory instead of base64 image data
+                json.writeStringField("path", attachment.path());
+            } else {
+                json.writeFieldName("data");
+                json.writeBinary(attachment.data());
+            }
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+    }
+
+    /**
+     * Attachments made during a step or hook - attachments recorded without a hook after the last step
+     * (streams written before hooks were recorded) go to the last step
+     */
+    private static List<AttachmentRecord> attachmentsOf(ScenarioRecord scenario, Predicate<AttachmentRecord> filter) {
+        List<AttachmentRecord> result = new ArrayList<>();
+        for (AttachmentRecord attachment : scenario.getAttachments()) {
+            if (filter.test(attachment)) {
+                result.add(attachment);
+            }
+        }
+        return result;
+    }
+
+    private static String toId(String name) {
+        return name.replaceAll("[\\s'_,!]", "-").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,194 @@
+package reporting;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NdjsonReportWriter - Line-delimited JSON event stream, appended as the run progresses
+ * One JSON object per line (scenarioStarted, step, hook, attachment, scenarioFinished), keyed by scenario id so
+ * parallel scenarios can interleave. Every line is handed to the OS when written and the file is fsync'd
+ * when a scenario finishes, so a crashed JVM still leaves every completed scenario on disk. Nothing is
+ * retained in memory. NdjsonToLegacyJson turns the stream into the old cucumber JSON document.
+ */
+public class NdjsonReportWriter implements ReportWriter {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final File file;
+    private FileOutputStream stream;
+    private Writer out;
+
+    public NdjsonReportWriter(String path) {
+        this.file = new File(path);
+    }
+
+    @Override
+    public void scenarioStarted(ScenarioRecord scenario) throws IOException {
+        StringWriter line = new StringWriter();
+        try (JsonGenerator json = JSON.createGenerator(line)) {
+            json.writeStartObject();
+            json.writeStringField("type", "scenarioStarted");
+            json.writeStringField("id", scenario.getId());
+            json.writeStringField("uri", scenario.getUri().toString());
+            json.writeStringField("feature", scenario.getFeature().name());
+            json.writeStringField("featureKeyword", scenario.getFeature().keyword());
+            json.writeStringField("featureDescription", scenario.getFeature().description());
+            json.writeNumberField("featureLine", scenario.getFeature().line());
+            json.writeArrayFieldStart("featureTags");
+            for (TagRecord tag : scenario.getFeature().tags()) {
+                json.writeStartObject();
+                json.writeStringField("name", tag.name());
+                json.writeNumberField("line", tag.line());
+                json.writeNumberField("column", tag.column());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeStringField("name", scenario.getName());
+            json.writeStringField("keyword", scenario.getKeyword());
+            json.writeNumberField("line", scenario.getLine());
+            json.writeArrayFieldStart("tags");
+            for (String tag : scenario.getTags()) {
+                json.writeString(tag);
+            }
+            json.writeEndArray();
+            json.writeStringField("thread", scenario.getThreadName());
+            json.writeNumberField("timestamp", scenario.getStartMillis());
+            json.writeEndObject();
+        }
+        append(line, false);
+    }
+
+    @Override
+    public void stepFinished(ScenarioRecord scenario, StepRecord step) throws IOException {
+        StringWriter line = new StringWriter();
+        try (JsonGenerator json = JSON.createGenerator(line)) {
+            json.writeStartObject();
+            json.writeStringField("type", "step");
+            json.writeStringField("id", scenario.getId());
+            json.writeStringField("keyword", step.keyword());
+            json.writeStringField("text", step.text());
+            json.writeNumberField("line", step.line());
+            json.writeStringField("status", step.status());
+            json.writeNumberField("duration", step.durationNanos());
+            if (step.errorMessage() != null) {
+                json.writeStringField("error", step.errorMessage());
+            }
+            if (step.location() != null) {
+                json.writeStringField("location", step.location());
+            }
+            if (!step.arguments().isEmpty()) {
+                json.writeArrayFieldStart("arguments");
+                for (ArgumentRecord argument : step.arguments()) {
+                    json.writeStartObject();
+                    json.writeStringField("value", argument.value());
+                    json.writeNumberField("offset", argument.offset());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+            }
+            if (step.background() != null) {
+                json.writeObjectFieldStart("background");
+                json.writeStringField("keyword", step.background().keyword());
+                json.writeStringField("name", step.background().name());
+                json.writeNumberField("line", step.background().line());
+                json.writeEndObject();
+            }
+            json.writeEndObject();
+        }
+        append(line, false);
+    }
+
+    @Override
+    public void hookFinished(ScenarioRecord scenario, HookRecord hook) throws IOException {
+        StringWriter line = new StringWriter();
+        try (JsonGenerator json = JSON.createGenerator(line)) {
+            json.writeStartObject();
+            json.writeStringField("type", "hook");
+            json.writeStringField("id", scenario.getId());
+            json.writeStringField("hookType", hook.type());
+            json.writeStringField("location", hook.location());
+            json.writeStringField("status", hook.status());
+            json.writeNumberField("duration", hook.durationNanos());
+            if (hook.errorMessage() != null) {
+                json.writeStringField("error", hook.errorMessage());
+            }
+            json.writeNumberField("step", hook.stepIndex());
+            json.writeEndObject();
+        }
+        append(line, false);
+    }
+
+    @Override
+    public void attachmentAdded(ScenarioRecord scenario, AttachmentRecord attachment) throws IOException {
+        StringWriter line = new StringWriter();
+        try (JsonGenerator json = JSON.createGenerator(line)) {
+            json.writeStartObject();
+            json.writeStringField("type", "attachment");
+            json.writeStringField("id", scenario.getId());
+            json.writeNumberField("step", attachment.stepIndex());
+            json.writeNumberField("hook", attachment.hookIndex());
+            json.writeStringField("name", attachment.name());
+            json.writeStringField("mediaType", attachment.mediaType());
+            if (attachment.isExternal()) {
+                json.writeStringField("path", attachment.path());
+            } else {
+                json.writeFieldName("data");
+                json.writeBinary(attachment.data());
+            }
+            json.writeEndObject();
+        }
+        append(line, false);
+    }
+
+    @Override
+    public void scenarioFinished(ScenarioRecord scenario) throws IOException {
+        StringWriter line = new StringWriter();
+        try (JsonGenerator json = JSON.createGenerator(line)) {
+            json.writeStartObject();
+            json.writeStringField("type", "scenarioFinished");
+            json.writeStringField("id", scenario.getId());
+            json.writeStringField("status", scenario.getStatus());
+            if (scenario.getErrorMessage() != null) {
+                json.writeStringField("error", scenario.getErrorMessage());
+            }
+            json.writeNumberField("timestamp", scenario.getEndMillis());
+            json.writeEndObject();
+        }
+        append(line, true);
+    }
+
+    @Override
+    public synchronized void runFinished() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    /**
+     * Lines from parallel scenarios are appended whole, one at a time
+     */
+    private synchronized void append(StringWriter line, boolean sync) throws IOException {
+        if (out == null) {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            stream = new FileOutputStream(file);
+            out = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+        }
+        out.write(line.toString());
+        out.write('\n');
+        out.flush();
+        if (sync) {
+            stream.getFD().sync();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package reporting;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NdjsonToLegacyJson - Converts the NdjsonReportWriter stream into the legacy cucumber JSON document
+ * For tools that only read the old json formatter output. Tolerates streams from a crashed run: a torn
+ * last line is skipped and scenarios that never finished are reported as failed.
+ * Usage: mvn -q exec:java -Dexec.classpathScope=test -Dexec.mainClass=reporting.NdjsonToLegacyJson
+ *        -Dexec.args="target/cucumber-reports/TestRunner.ndjson target/cucumber-reports/TestRunner.json"
+ */
+public class NdjsonToLegacyJson {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: NdjsonToLegacyJson <input.ndjson> <output.json>");
+            System.exit(1);
+        }
+        int scenarios = convert(Path.of(args[0]), Path.of(args[1]));
+        System.out.println("Converted " + scenarios + " scenarios to " + args[1]);
+    }
+
+    /**
+     * Convert a stream and return the number of scenarios written
+     */
+    public static int convert(Path ndjson, Path json) throws IOException {
+        JsonReportWriter writer = new JsonReportWriter(json.toString());
+        Map<String, ScenarioRecord> open = new LinkedHashMap<>();
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(ndjson, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode event;
+                try {
+                    event = MAPPER.readTree(line);
+                } catch (JsonProcessingException e) {
+                    System.err.println("Skipping unreadable line (truncated run?): " + e.getOriginalMessage());
+                    continue;
+                }
+                String id = event.path("id").asText();
+                switch (event.path("type").asText()) {
+                    case "scenarioStarted" -> open.put(id, toScenario(event));
+                    case "step" -> {
+                        ScenarioRecord scenario = open.get(id);
+                        if (scenario != null) {
+                            scenario.addStep(new StepRecord(event.path("keyword").asText(), event.path("text").asText(),
+                                    event.path("line").asInt(), event.path("status").asText(), event.path("duration").asLong(),
+                                    textOrNull(event, "error"), textOrNull(event, "location"), toArguments(event.path("arguments")),
+                                    toBackground(event.get("background"))));
+                        }
+                    }
+                    case "hook" -> {
+                        ScenarioRecord scenario = open.get(id);
+                        if (scenario != null) {
+                            scenario.addHook(new HookRecord(event.path("hookType").asText(), textOrNull(event, "location"),
+                                    event.path("status").asText(), event.path("duration").asLong(), textOrNull(event, "error"),
+                                    event.path("step").asInt()));
+                        }
+                    }
+                    case "attachment" -> {
+                        ScenarioRecord scenario = open.get(id);
+                        if (scenario != null) {
+                            String path = textOrNull(event, "path");
+                            scenario.addAttachment(new AttachmentRecord(textOrNull(event, "name"), event.path("mediaType").asText(),
+                                    path == null ? event.path("data").binaryValue() : null, path, event.path("step").asInt(),
+                                    event.path("hook").asInt(-1)));
+                        }
+                    }
+                    case "scenarioFinished" -> {
+                        ScenarioRecord scenario = open.remove(id);
+                        if (scenario != null) {
+                            scenario.finish(event.path("status").asText(), textOrNull(event, "error"), event.path("timestamp").asLong());
+                            writer.scenarioFinished(scenario);
+                            count++;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+        for (ScenarioRecord scenario : open.values()) {
+            scenario.finish("FAILED", "The run ended before this scenario finished", scenario.getStartMillis());
+            writer.scenarioFinished(scenario);
+            count++;
+        }
+        writer.runFinished();
+        return count;
+    }
+
+    private static ScenarioRecord toScenario(JsonNode event) {
+        List<String> tags = new ArrayList<>();
+        event.path("tags").forEach(tag -> tags.add(tag.asText()));
+        List<TagRecord> featureTags = new ArrayList<>();
+        event.path("featureTags").forEach(tag -> featureTags.add(
+                new TagRecord(tag.path("name").asText(), tag.path("line").asInt(), tag.path("column").asInt())));
+        FeatureRecord feature = new FeatureRecord(event.path("featureKeyword").asText("Feature"), event.path("feature").asText(),
+                event.path("featureDescription").asText(""), event.path("featureLine").asInt(1), featureTags);
+        return new ScenarioRecord(event.path("id").asText(), URI.create(event.path("uri").asText()), feature,
+                event.path("name").asText(), event.path("keyword").asText(),
+                event.path("line").asInt(), tags, event.path("thread").asText(), event.path("timestamp").asLong());
+    }
+
+    private static List<ArgumentRecord> toArguments(JsonNode arguments) {
+        List<ArgumentRecord> result = new ArrayList<>();
+        arguments.forEach(argument -> result.add(new ArgumentRecord(textOrNull(argument, "value"), argument.path("offset").asInt())));
+        return result;
+    }
+
+    private static BackgroundRecord toBackground(JsonNode background) {
+        if (background == null || background.isNull()) {
+            return null;
+        }
+        return new BackgroundRecord(background.path("keyword").asText(), background.path("name").asText(), background.path("line").asInt());
+    }
+
+    private static String textOrNull(JsonNode event, String field) {
+        JsonNode value = event.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
@@ -0,0 +1,32 @@
+package reporting;
+
+import java.io.IOException;
+
+/**
+ * ReportWriter - Output format for UnifiedReportPlugin - every writer reads the same in-memory model
+ * The plugin keeps no finished scenarios; a writer that renders the whole run at the end retains only
+ * what it needs from scenarioFinished, so streaming writers keep memory flat however long the run is.
+ */
+public interface ReportWriter {
+
+    default void scenarioStarted(ScenarioRecord scenario) throws IOException {
+    }
+
+    default void stepFinished(ScenarioRecord scenario, StepRecord step) throws IOException {
+    }
+
+    default void hookFinished(ScenarioRecord scenario, HookRecord hook) throws IOException {
+    }
+
+    default void attachmentAdded(ScenarioRecord scenario, AttachmentRecord attachment) throws IOException {
+    }
+
+    default void scenarioFinished(ScenarioRecord scenario) throws IOException {
+    }
+
+    /**
+     * Called once at the end of the run
+     */
+    default void runFinished() throws IOException {
+    }
+}
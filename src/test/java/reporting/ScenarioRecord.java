@@ -0,0 +1,144 @@
+package reporting;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ScenarioRecord - Scenario in the shared report model - filled by UnifiedReportPlugin while the scenario runs,
+ * read by the writers once it has finished. A scenario is only touched by the thread running it.
+ */
+public class ScenarioRecord {
+
+    private final String id;
+    private final URI uri;
+    private final FeatureRecord feature;
+    private final String name;
+    private final String keyword;
+    private final int line;
+    private final List<String> tags;
+    private final String threadName;
+    private final long startMillis;
+    private final List<StepRecord> steps = new ArrayList<>();
+    private final List<HookRecord> hooks = new ArrayList<>();
+    private final List<AttachmentRecord> attachments = new ArrayList<>();
+    private boolean inHook;
+    private long endMillis;
+    private String status = "UNDEFINED";
+    private String errorMessage;
+
+    public ScenarioRecord(String id, URI uri, FeatureRecord feature, String name, String keyword, int line,
+                          List<String> tags, String threadName, long startMillis) {
+        this.id = id;
+        this.uri = uri;
+        this.feature = feature;
+        this.name = name;
+        this.keyword = keyword;
+        this.line = line;
+        this.tags = List.copyOf(tags);
+        this.threadName = threadName;
+        this.startMillis = startMillis;
+    }
+
+    void addStep(StepRecord step) {
+        steps.add(step);
+    }
+
+    void addHook(HookRecord hook) {
+        hooks.add(hook);
+    }
+
+    void setInHook(boolean inHook) {
+        this.inHook = inHook;
+    }
+
+    /**
+     * Index the next attachment belongs to in getHooks(), or -1 while a step is running
+     */
+    int currentHookIndex() {
+        return inHook ? hooks.size() : -1;
+    }
+
+    void addAttachment(AttachmentRecord attachment) {
+        attachments.add(attachment);
+    }
+
+    void recordError(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    void finish(String status, String errorMessage, long endMillis) {
+        this.status = status;
+        this.errorMessage = errorMessage;
+        this.endMillis = endMillis;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    public FeatureRecord getFeature() {
+        return feature;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getEndMillis() {
+        return endMillis;
+    }
+
+    public long getDurationNanos() {
+        long total = 0;
+        for (StepRecord step : steps) {
+            total += step.durationNanos();
+        }
+        return total;
+    }
+
+    public List<StepRecord> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    public List<HookRecord> getHooks() {
+        return Collections.unmodifiableList(hooks);
+    }
+
+    public List<AttachmentRecord> getAttachments() {
+        return Collections.unmodifiableList(attachments);
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
@@ -0,0 +1,16 @@
+package reporting;
+
+import java.util.List;
+
+/**
+ * StepRecord - One executed Gherkin step of a scenario (hooks are recorded as HookRecord)
+ * location and arguments describe the matched step definition (null and empty when undefined);
+ * background is null for scenario steps.
+ */
+public record StepRecord(String keyword, String text, int line, String status, long durationNanos, String errorMessage,
+                         String location, List<ArgumentRecord> arguments, BackgroundRecord background) {
+
+    public StepRecord {
+        arguments = arguments == null ? List.of() : List.copyOf(arguments);
+    }
+}
@@ -0,0 +1,7 @@
+package reporting;
+
+/**
+ * TagRecord - Feature-level tag with its position in the feature file
+ */
+public record TagRecord(String name, int line, int column) {
+}
@@ -0,0 +1,87 @@
+package reporting;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * TimelineReportWriter - Self-contained HTML timeline with one lane per worker thread
+ * Replaces the timeline formatter's directory of scripts with a single file; each scenario is a bar
+ * positioned by its start and end time, coloured by status, with the details in the tooltip.
+ * Only a small Bar per scenario is kept until the end of the run.
+ */
+public class TimelineReportWriter implements ReportWriter {
+
+    private record Bar(String thread, long start, long end, String status, String label) {
+    }
+
+    private final File file;
+    private final List<Bar> bars = new ArrayList<>();
+
+    public TimelineReportWriter(String path) {
+        this.file = new File(path);
+    }
+
+    @Override
+    public synchronized void scenarioFinished(ScenarioRecord scenario) {
+        bars.add(new Bar(scenario.getThreadName(), scenario.getStartMillis(), scenario.getEndMillis(), scenario.getStatus(),
+                scenario.getFeature().name() + " / " + scenario.getName()));
+    }
+
+    @Override
+    public synchronized void runFinished() throws IOException {
+        long runStart = Long.MAX_VALUE;
+        long runEnd = Long.MIN_VALUE;
+        Map<String, List<Bar>> lanes = new LinkedHashMap<>();
+        for (Bar bar : bars) {
+            runStart = Math.min(runStart, bar.start());
+            runEnd = Math.max(runEnd, bar.end());
+            lanes.computeIfAbsent(bar.thread(), thread -> new ArrayList<>()).add(bar);
+        }
+        if (bars.isEmpty()) {
+            runStart = 0;
+            runEnd = 0;
+        }
+        double span = Math.max(1, runEnd - runStart);
+
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            out.write("<!DOCTYPE html><html><head><meta charset='utf-8'><title>Cucumber Timeline</title><style>"
+                    + "body{font-family:sans-serif;margin:20px}"
+                    + ".lane{display:flex;align-items:center;margin:4px 0}"
+                    + ".name{width:180px;font-size:12px;overflow:hidden;text-overflow:ellipsis;white-space:nowrap}"
+                    + ".track{position:relative;flex:1;height:22px;background:#f2f2f2}"
+                    + ".bar{position:absolute;top:2px;height:18px;min-width:2px;border-radius:2px}"
+                    + ".PASSED{background:#4caf50}.FAILED{background:#f44336}.SKIPPED{background:#9e9e9e}"
+                    + ".PENDING,.UNDEFINED,.AMBIGUOUS{background:#ff9800}"
+                    + "</style></head><body>\n");
+            out.write("<h2>Timeline - " + bars.size() + " scenarios, " + lanes.size() + " threads, "
+                    + String.format(Locale.ROOT, "%.1f", (runEnd - runStart) / 1000.0) + " s</h2>\n");
+            for (Map.Entry<String, List<Bar>> lane : lanes.entrySet()) {
+                out.write("<div class='lane'><div class='name'>" + escape(lane.getKey()) + "</div><div class='track'>");
+                for (Bar bar : lane.getValue()) {
+                    double left = (bar.start() - runStart) * 100 / span;
+                    double width = (bar.end() - bar.start()) * 100 / span;
+                    out.write(String.format(Locale.ROOT, "<div class='bar %s' style='left:%.3f%%;width:%.3f%%' title='%s'></div>",
+                            bar.status(), left, width,
+                            escape(bar.label() + " - " + bar.status() + " (" + (bar.end() - bar.start()) + " ms)")));
+                }
+                out.write("</div></div>\n");
+            }
+            out.write("</body></html>\n");
+        }
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("'", "&#39;").replace("\"", "&quot;");
+    }
+}
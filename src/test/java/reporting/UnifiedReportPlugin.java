@@ -0,0 +1,273 @@
+package reporting;
+
+import io.cucumber.messages.types.Background;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Feature;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.Argument;
+import io.cucumber.plugin.event.EmbedEvent;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import io.cucumber.plugin.event.WriteEvent;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UnifiedReportPlugin - Single Cucumber plugin that writes every report format from one event stream
+ * Each event is turned into the shared model (ScenarioRecord / StepRecord) exactly once and the enabled
+ * ReportWriters render it, instead of json, junit, timeline and the Extent adapter each listening and
+ * serializing on their own.
+ * Cucumber's own html: report is not replaced and stays in the runners' plugin list.
+ * Usage: plugin = {"pretty", "html:target/cucumber-reports/WarehouseManagement.html",
+ *                  "reporting.UnifiedReportPlugin:target/cucumber-reports/WarehouseManagement"}
+ * The argument is the base path of the output files (.ndjson, .xml, -timeline.html, .json) and of the
+ * -attachments/ directory binary attachments are written to. Writers are chosen with
+ * -Dunified.report.writers (default: ndjson,junit,timeline,extent); the monolithic legacy "json" writer is opt-in - NdjsonToLegacyJson converts the .ndjson stream when a tool needs that shape.
+ */
+public class UnifiedReportPlugin implements ConcurrentEventListener {
+
+    private static final String DEFAULT_BASE_PATH = "target/cucumber-reports/cucumber";
+
+    private final List<ReportWriter> writers;
+    private final AttachmentSink attachments;
+    private final Map<URI, FeatureRecord> features = new ConcurrentHashMap<>();
+    // feature uri -> (step line -> Background) for the steps written under a Background
+    private final Map<URI, Map<Integer, BackgroundRecord>> backgroundSteps = new ConcurrentHashMap<>();
+    private final Map<TestCase, ScenarioRecord> running = new ConcurrentHashMap<>();
+
+    public UnifiedReportPlugin() {
+        this(DEFAULT_BASE_PATH);
+    }
+
+    public UnifiedReportPlugin(String basePath) {
+        this.attachments = new AttachmentSink(basePath);
+        this.writers = createWriters(basePath, System.getProperty("unified.report.writers", "ndjson,junit,timeline,extent"));
+    }
+
+    private static List<ReportWriter> createWriters(String basePath, String names) {
+        List<ReportWriter> result = new ArrayList<>();
+        for (String name : names.split(",")) {
+            switch (name.trim().toLowerCase()) {
+                case "ndjson" -> result.add(new NdjsonReportWriter(basePath + ".ndjson"));
+                case "json" -> result.add(new JsonReportWriter(basePath + ".json"));
+                case "junit" -> result.add(new JUnitXmlReportWriter(basePath + ".xml"));
+                case "timeline" -> result.add(new TimelineReportWriter(basePath + "-timeline.html"));
+                case "extent" -> result.add(new ExtentReportWriter());
+                case "" -> {
+                }
+                default -> throw new IllegalArgumentException("Unknown report writer: " + name);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(Envelope.class, this::handleEnvelope);
+        publisher.registerHandlerFor(TestCaseStarted.class, this::handleTestCaseStarted);
+        publisher.registerHandlerFor(TestStepStarted.class, this::handleTestStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::handleTestStepFinished);
+        publisher.registerHandlerFor(EmbedEvent.class, this::handleEmbed);
+        publisher.registerHandlerFor(WriteEvent.class, this::handleWrite);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::handleTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, this::handleTestRunFinished);
+    }
+
+    /**
+     * Feature header and Background steps come from Cucumber's parsed Gherkin document, so localized
+     * keywords and descriptions are reported as written
+     */
+    private void handleEnvelope(Envelope envelope) {
+        envelope.getGherkinDocument().ifPresent(this::readFeature);
+    }
+
+    private void readFeature(GherkinDocument document) {
+        if (document.getUri().isEmpty() || document.getFeature().isEmpty()) {
+            return;
+        }
+        Feature feature = document.getFeature().get();
+        List<TagRecord> tags = new ArrayList<>();
+        feature.getTags().forEach(tag -> tags.add(new TagRecord(tag.getName(),
+                tag.getLocation().getLine().intValue(), tag.getLocation().getColumn().orElse(1L).intValue())));
+        URI uri = URI.create(document.getUri().get());
+        features.put(uri, new FeatureRecord(feature.getKeyword(), feature.getName(),
+                feature.getDescription(), feature.getLocation().getLine().intValue(), tags));
+
+        Map<Integer, BackgroundRecord> steps = new HashMap<>();
+        for (FeatureChild child : feature.getChildren()) {
+            child.getBackground().ifPresent(background -> addBackgroundSteps(background, steps));
+            child.getRule().ifPresent(rule -> rule.getChildren().forEach(ruleChild ->
+                    ruleChild.getBackground().ifPresent(background -> addBackgroundSteps(background, steps))));
+        }
+        backgroundSteps.put(uri, steps);
+    }
+
+    private void handleTestCaseStarted(TestCaseStarted event) {
+        TestCase testCase = event.getTestCase();
+        FeatureRecord feature = features.getOrDefault(testCase.getUri(),
+                new FeatureRecord("Feature", testCase.getUri().toString(), "", 1, List.of()));
+        ScenarioRecord scenario = new ScenarioRecord(
+                testCase.getId().toString(),
+                testCase.getUri(),
+                feature,
+                testCase.getName(),
+                testCase.getKeyword(),
+                testCase.getLocation().getLine(),
+                testCase.getTags(),
+                Thread.currentThread().getName(),
+                event.getInstant().toEpochMilli());
+        running.put(testCase, scenario);
+        forEachWriter(writer -> writer.scenarioStarted(scenario));
+    }
+
+    private void handleTestStepStarted(TestStepStarted event) {
+        ScenarioRecord scenario = running.get(event.getTestCase());
+        if (scenario != null) {
+            // Attachments made from now on belong to this hook
+            scenario.setInHook(event.getTestStep() instanceof HookTestStep);
+        }
+    }
+
+    private void handleTestStepFinished(TestStepFinished event) {
+        ScenarioRecord scenario = running.get(event.getTestCase());
+        Result result = event.getResult();
+        if (scenario == null) {
+            return;
+        }
+        if (event.getTestStep() instanceof PickleStepTestStep pickleStep) {
+            int line = pickleStep.getStep().getLine();
+            List<ArgumentRecord> arguments = new ArrayList<>();
+            for (Argument argument : pickleStep.getDefinitionArgument()) {
+                arguments.add(new ArgumentRecord(argument.getValue(), argument.getStart()));
+            }
+            StepRecord step = new StepRecord(
+                    pickleStep.getStep().getKeyword().trim(),
+                    pickleStep.getStep().getText(),
+                    line,
+                    result.getStatus().name(),
+                    result.getDuration().toNanos(),
+                    errorMessage(result),
+                    pickleStep.getCodeLocation(),
+                    arguments,
+                    backgroundOf(event.getTestCase().getUri(), line));
+            scenario.addStep(step);
+            forEachWriter(writer -> writer.stepFinished(scenario, step));
+        } else if (event.getTestStep() instanceof HookTestStep hookStep) {
+            if (result.getError() != null && scenario.getErrorMessage() == null) {
+                // Failing hook - not a step, but the scenario should still show why it failed
+                scenario.recordError(errorMessage(result));
+            }
+            HookRecord hook = new HookRecord(
+                    hookStep.getHookType().name(),
+                    hookStep.getCodeLocation(),
+                    result.getStatus().name(),
+                    result.getDuration().toNanos(),
+                    errorMessage(result),
+                    scenario.getSteps().size());
+            scenario.addHook(hook);
+            scenario.setInHook(false);
+            forEachWriter(writer -> writer.hookFinished(scenario, hook));
+        }
+    }
+
+    private void handleEmbed(EmbedEvent event) {
+        ScenarioRecord scenario = running.get(event.getTestCase());
+        if (scenario != null) {
+            addAttachment(scenario, attachments.externalize(new AttachmentRecord(event.getName(), event.getMediaType(),
+                    event.getData(), null, scenario.getSteps().size(), scenario.currentHookIndex())));
+        }
+    }
+
+    private void handleWrite(WriteEvent event) {
+        ScenarioRecord scenario = running.get(event.getTestCase());
+        if (scenario != null) {
+            addAttachment(scenario, new AttachmentRecord(null, "text/x.cucumber.log+plain",
+                    event.getText().getBytes(StandardCharsets.UTF_8), null, scenario.getSteps().size(), scenario.currentHookIndex()));
+        }
+    }
+
+    private void addAttachment(ScenarioRecord scenario, AttachmentRecord attachment) {
+        scenario.addAttachment(attachment);
+        forEachWriter(writer -> writer.attachmentAdded(scenario, attachment));
+    }
+
+    private void handleTestCaseFinished(TestCaseFinished event) {
+        ScenarioRecord scenario = running.remove(event.getTestCase());
+        if (scenario == null) {
+            return;
+        }
+        Result result = event.getResult();
+        String error = scenario.getErrorMessage() != null ? scenario.getErrorMessage() : errorMessage(result);
+        scenario.finish(result.getStatus().name(), error, event.getInstant().toEpochMilli());
+        forEachWriter(writer -> writer.scenarioFinished(scenario));
+    }
+
+    private void handleTestRunFinished(TestRunFinished event) {
+        attachments.awaitWritten();
+        forEachWriter(ReportWriter::runFinished);
+    }
+
+    /**
+     * A broken writer must not stop the others or fail the run
+     */
+    private void forEachWriter(WriterCall call) {
+        for (ReportWriter writer : writers) {
+            try {
+                call.apply(writer);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Report writer " + writer.getClass().getSimpleName() + " failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Full stack trace, as the legacy json formatter reports it
+     */
+    private static String errorMessage(Result result) {
+        Throwable error = result.getError();
+        if (error == null) {
+            return null;
+        }
+        StringWriter trace = new StringWriter();
+        error.printStackTrace(new PrintWriter(trace));
+        return trace.toString();
+    }
+
+    /**
+     * The Background a step line belongs to, or null for a scenario step
+     */
+    private BackgroundRecord backgroundOf(URI uri, int line) {
+        Map<Integer, BackgroundRecord> steps = backgroundSteps.get(uri);
+        return steps == null ? null : steps.get(line);
+    }
+
+    private static void addBackgroundSteps(Background background, Map<Integer, BackgroundRecord> steps) {
+        BackgroundRecord record = new BackgroundRecord(background.getKeyword(), background.getName(),
+                background.getLocation().getLine().intValue());
+        background.getSteps().forEach(step -> steps.put(step.getLocation().getLine().intValue(), record));
+    }
+
+    @FunctionalInterface
+    private interface WriterCall {
+        void apply(ReportWriter writer) throws IOException;
+    }
+}
@@ -0,0 +1,58 @@
+package runners;
+
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.FeatureWrapper;
+import io.cucumber.testng.PickleWrapper;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import utils.ExcelExamples;
+import utils.TestConfig;
+
+import java.util.Iterator;
+
+/**
+ * Excel Examples Runner - Runs @excel:<sheet> scenarios once per row of the test-data workbook
+ * Rows are streamed by ExcelExamples as TestNG asks for the next invocation, so large sheets
+ * are never loaded up front.
+ */
+@CucumberOptions(
+        dryRun = false,
+        features = {"src/test/resources/features/ExcelDataDrivenLogin.feature"},
+        glue = {"stepdefs", "utils", "hooks"},
+        plugin = {
+                "pretty",
+                "reporting.UnifiedReportPlugin:target/cucumber-reports/ExcelExamples"
+        },
+        tags = "@ExcelData",
+        snippets = CucumberOptions.SnippetType.CAMELCASE,
+        monochrome = true,
+        publish = false
+)
+public class ExcelExamplesRunner extends AbstractTestNGCucumberTests {
+
+    /**
+     * Apply src/test/resources/config/ExcelExamplesRunner.properties (if present) on top of Global settings.properties
+     */
+    @BeforeClass(alwaysRun = true)
+    public void useRunnerConfig() {
+        TestConfig.useRunner(getClass().getSimpleName());
+    }
+
+    @DataProvider(parallel = false)
+    public Iterator<Object[]> excelScenarios() {
+        return ExcelExamples.expand(super.scenarios());
+    }
+
+    @Override
+    @Test(groups = "cucumber", description = "Runs Cucumber Scenarios", dataProvider = "excelScenarios")
+    public void runScenario(PickleWrapper pickleWrapper, FeatureWrapper featureWrapper) {
+        ExcelExamples.start(pickleWrapper);
+        try {
+            super.runScenario(pickleWrapper, featureWrapper);
+        } finally {
+            ExcelExamples.finish();
+        }
+    }
+}
@@ -2,7 +2,9 @@ package runners;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
+import utils.TestConfig;
 
 /**
  * ExtentReportDemoRunner - Dedicated test runner for demonstrating Extent Reports functionality
@@ -21,10 +23,7 @@ import org.testng.annotations.DataProvider;
         plugin = {
                 "pretty",
                 "html:target/cucumber-reports/ExtentDemo.html",
-                "json:target/cucumber-reports/ExtentDemo.json",
-                "junit:target/cucumber-reports/ExtentDemo.xml",
-                "com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:",
-                "timeline:target/test-output-thread/"
+                "reporting.UnifiedReportPlugin:target/cucumber-reports/ExtentDemo"
         },
         tags = "@ExtentReportingDemo",
         snippets = CucumberOptions.SnippetType.CAMELCASE,
@@ -32,6 +31,14 @@ import org.testng.annotations.DataProvider;
         publish = false
 )
 public class ExtentReportDemoRunner extends AbstractTestNGCucumberTests {
+
+    /**
+     * Apply src/test/resources/config/ExtentReportDemoRunner.properties (if present) on top of Global settings.properties
+     */
+    @BeforeClass(alwaysRun = true)
+    public void useRunnerConfig() {
+        TestConfig.useRunner(getClass().getSimpleName());
+    }
     
     /**
      * Parallel execution configuration
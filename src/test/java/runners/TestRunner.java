@@ -2,21 +2,29 @@ package runners;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
+import utils.TestConfig;
 
 
 @CucumberOptions(dryRun = false, features = {"src/test/resources/features/LoggedIn.feature",
         "src/test/resources/features/CheckButtons.feature"},
         glue = {"stepdefs", "utils","hooks"},
-        plugin = {"pretty", 
+        plugin = {"pretty",
                   "html:target/cucumber.html",
-                  "json:cucumnber-json",
-                  "com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:",
-                  "timeline:test-output-thread/"
+                  "reporting.UnifiedReportPlugin:target/cucumber-reports/TestRunner"
         },
         snippets = CucumberOptions.SnippetType.CAMELCASE,
         monochrome = true)
 public class TestRunner extends AbstractTestNGCucumberTests {
+
+    /**
+     * Apply src/test/resources/config/TestRunner.properties (if present) on top of Global settings.properties
+     */
+    @BeforeClass(alwaysRun = true)
+    public void useRunnerConfig() {
+        TestConfig.useRunner(getClass().getSimpleName());
+    }
     @Override
     @DataProvider(parallel = false)
     public Object[][] scenarios() {
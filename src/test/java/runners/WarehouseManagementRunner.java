@@ -2,7 +2,9 @@ package runners;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
+import utils.TestConfig;
 
 /**
  * Warehouse Management Test Runner - Comprehensive test execution for all warehouse operations
@@ -19,10 +21,7 @@ import org.testng.annotations.DataProvider;
         plugin = {
                 "pretty",
                 "html:target/cucumber-reports/WarehouseManagement.html",
-                "json:target/cucumber-reports/WarehouseManagement.json",
-                "junit:target/cucumber-reports/WarehouseManagement.xml",
-                "com.aventstack.extentreports.cucumber.adapter.ExtentCucumberAdapter:",
-                "timeline:target/test-output-thread/"
+                "reporting.UnifiedReportPlugin:target/cucumber-reports/WarehouseManagement"
         },
         tags = "@WarehouseManagement",
         snippets = CucumberOptions.SnippetType.CAMELCASE,
@@ -30,6 +29,14 @@ import org.testng.annotations.DataProvider;
         publish = false
 )
 public class WarehouseManagementRunner extends AbstractTestNGCucumberTests {
+
+    /**
+     * Apply src/test/resources/config/WarehouseManagementRunner.properties (if present) on top of Global settings.properties
+     */
+    @BeforeClass(alwaysRun = true)
+    public void useRunnerConfig() {
+        TestConfig.useRunner(getClass().getSimpleName());
+    }
     
     @Override
     @DataProvider(parallel = false)
@@ -3,6 +3,13 @@ package stepdefs;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.When;
 import utils.StepLogger;
+import utils.WarehouseDataGenerator;
+import utils.WarehouseDataGenerator.Sizes;
+import utils.WarehouseDataManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Common Step Definitions - Contains shared step definitions used across multiple feature files
@@ -24,6 +31,21 @@ public class CommonStepDefinitions {
         StepLogger.pass("Logged into warehouse system as: " + userRole);
     }
     
+    @Given("the warehouse is seeded with {int} generated SKUs using seed {long}")
+    public void the_warehouse_is_seeded_with_generated_skus_using_seed(int skus, long seed) {
+        StepLogger.info("Seeding warehouse data: " + skus + " SKUs, seed " + seed);
+        new WarehouseDataGenerator(seed, Sizes.forSkus(skus)).loadInto(WarehouseDataManager.getInstance());
+        StepLogger.pass("Warehouse seeded with " + skus + " generated SKUs");
+    }
+    
+    @Given("warehouse fixture files for {int} SKUs are generated with seed {long}")
+    public void warehouse_fixture_files_are_generated_with_seed(int skus, long seed) throws IOException {
+        // Same seed, same files - later steps reference them as target/generated-data/seed-<seed>/...
+        Path directory = Paths.get("target", "generated-data", "seed-" + seed);
+        new WarehouseDataGenerator(seed, Sizes.forSkus(skus)).writeFixtures(directory);
+        StepLogger.pass("Fixture files for " + skus + " SKUs written to " + directory);
+    }
+    
     @When("I close appointment {string}")
     public void i_close_appointment(String appointmentNumber) {
         StepLogger.info("Closing appointment: " + appointmentNumber);
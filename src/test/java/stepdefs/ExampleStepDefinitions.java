@@ -5,6 +5,7 @@ import io.cucumber.java.en.When;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.And;
 import utils.BaseUtil;
+import utils.LocatorProbe;
 import utils.StepLogger;
 import utils.WebDriverConfig;
 import org.openqa.selenium.By;
@@ -103,29 +104,17 @@ public class ExampleStepDefinitions extends WebDriverConfig {
         StepLogger.stepStart("When user clicks on login button");
         
         try {
-            // Try to find login button with different possible IDs/names
-            WebElement loginButton = null;
-            String[] buttonSelectors = {"login", "submit", "btn-login", "loginBtn"};
-            
-            for (String selector : buttonSelectors) {
-                try {
-                    loginButton = getDriver().findElement(By.id(selector));
-                    break;
-                } catch (Exception e) {
-                    // Try next selector
-                }
-            }
+            // Probe the possible IDs and the button text/type in a single script call
+            WebElement loginButton = LocatorProbe.named("login button")
+                    .id("login").id("submit").id("btn-login").id("loginBtn")
+                    .xpath("//button[contains(text(),'Login')] | //input[@type='submit']")
+                    .find(getDriver());
             
             if (loginButton == null) {
-                // Try by button text or type
-                try {
-                    loginButton = getDriver().findElement(By.xpath("//button[contains(text(),'Login')] | //input[@type='submit']"));
-                } catch (Exception e) {
-                    // If no login button found, just log it for demo purposes
-                    StepLogger.infoWithScreenshot("No login button found - this is expected for demo purposes");
-                    StepLogger.stepComplete("When user clicks on login button");
-                    return;
-                }
+                // If no login button found, just log it for demo purposes
+                StepLogger.infoWithScreenshot("No login button found - this is expected for demo purposes");
+                StepLogger.stepComplete("When user clicks on login button");
+                return;
             }
             
             // Take screenshot before clicking
@@ -213,27 +202,18 @@ public class ExampleStepDefinitions extends WebDriverConfig {
         StepLogger.stepStart("Then user verifies element " + elementId + " is present");
         
         try {
-            // Try multiple ways to find the element for demo flexibility
-            WebElement element = null;
-            
-            // Try by ID first
-            try {
-                element = getDriver().findElement(By.id(elementId));
-            } catch (Exception e) {
-                // Try by name
-                try {
-                    element = getDriver().findElement(By.name(elementId));
-                } catch (Exception e2) {
-                    // Try by xpath with contains
-                    try {
-                        element = getDriver().findElement(By.xpath("//*[contains(@id,'" + elementId + "') or contains(@name,'" + elementId + "')]"));
-                    } catch (Exception e3) {
-                        // For demo purposes, just log that element verification was attempted
-                        StepLogger.infoWithScreenshot("Element " + elementId + " verification attempted - this is expected for demo purposes");
-                        StepLogger.stepComplete("Then user verifies element " + elementId + " is present");
-                        return;
-                    }
-                }
+            // Try id, name and a partial id/name match in a single script call
+            WebElement element = LocatorProbe.named("element " + elementId)
+                    .id(elementId)
+                    .name(elementId)
+                    .xpath("//*[contains(@id," + LocatorProbe.xpathLiteral(elementId) + ") or contains(@name," + LocatorProbe.xpathLiteral(elementId) + ")]")
+                    .find(getDriver());
+            
+            if (element == null) {
+                // For demo purposes, just log that element verification was attempted
+                StepLogger.infoWithScreenshot("Element " + elementId + " verification attempted - this is expected for demo purposes");
+                StepLogger.stepComplete("Then user verifies element " + elementId + " is present");
+                return;
             }
             
             if (element != null && element.isDisplayed()) {
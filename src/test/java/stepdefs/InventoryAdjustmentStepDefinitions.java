@@ -5,8 +5,12 @@ import io.cucumber.java.en.*;
 import io.restassured.response.Response;
 import org.testng.Assert;
 import pages.InventoryAdjustmentPage;
+import utils.BulkRows;
+import utils.InventoryFixture;
 import utils.StepLogger;
 import utils.WarehouseDataManager;
+import utils.WarehouseRows.CountLine;
+import utils.WarehouseRows.CountLines;
 import utils.WebDriverConfig;
 
 import java.util.*;
@@ -31,19 +35,12 @@ public class InventoryAdjustmentStepDefinitions extends WebDriverConfig {
     public void i_have_existing_inventory_for_items(DataTable dataTable) {
         StepLogger.info("Setting up existing inventory for items");
         
-        List<Map<String, String>> items = dataTable.asMaps(String.class, String.class);
+        // Built once per distinct table and shared - the scenario gets its own copy-on-write view
+        InventoryFixture fixture = InventoryFixture.of(dataTable, "Current Quantity");
+        dataManager.useInventory(fixture);
         
-        for (Map<String, String> item : items) {
-            String itemCode = item.get("SKU");
-            Integer currentQuantity = Integer.parseInt(item.get("Current Quantity"));
-            String location = item.get("Location");
-            
-            // Store existing inventory data
-            dataManager.updateInventory(itemCode, currentQuantity);
-            dataManager.addMetadata("location_" + itemCode, location);
-            
-            StepLogger.info("Existing inventory: " + itemCode + " - " + currentQuantity + " at " + location);
-        }
+        fixture.forEach((itemCode, currentQuantity) -> StepLogger.info(() ->
+                "Existing inventory: " + itemCode + " - " + currentQuantity + " at " + fixture.location(itemCode)));
         
         StepLogger.passWithScreenshot("Existing inventory setup completed");
     }
@@ -59,20 +56,12 @@ public class InventoryAdjustmentStepDefinitions extends WebDriverConfig {
     public void the_system_shows_expected_inventory(DataTable dataTable) {
         StepLogger.info("Setting up system expected inventory");
         
-        List<Map<String, String>> items = dataTable.asMaps(String.class, String.class);
+        // Carries system_qty_<SKU> and location_<SKU> metadata as well as the levels
+        InventoryFixture fixture = InventoryFixture.of(dataTable, "System Quantity");
+        dataManager.useInventory(fixture);
         
-        for (Map<String, String> item : items) {
-            String itemCode = item.get("SKU");
-            Integer systemQuantity = Integer.parseInt(item.get("System Quantity"));
-            String location = item.get("Location");
-            
-            // Store system quantities
-            dataManager.updateInventory(itemCode, systemQuantity);
-            dataManager.addMetadata("system_qty_" + itemCode, systemQuantity);
-            dataManager.addMetadata("location_" + itemCode, location);
-            
-            StepLogger.info("System inventory: " + itemCode + " - " + systemQuantity + " at " + location);
-        }
+        fixture.forEach((itemCode, systemQuantity) -> StepLogger.info(() ->
+                "System inventory: " + itemCode + " - " + systemQuantity + " at " + fixture.location(itemCode)));
         
         StepLogger.passWithScreenshot("System expected inventory setup completed");
     }
@@ -191,24 +180,15 @@ public class InventoryAdjustmentStepDefinitions extends WebDriverConfig {
     
     // Cycle count steps
     @When("I perform physical count:")
-    public void i_perform_physical_count(DataTable dataTable) {
+    public void i_perform_physical_count(CountLines counts) {
         StepLogger.info("Performing physical count");
         
-        List<Map<String, String>> countData = dataTable.asMaps(String.class, String.class);
-        List<Map<String, Object>> physicalCounts = new ArrayList<>();
-        
-        for (Map<String, String> count : countData) {
-            Map<String, Object> countItem = new LinkedHashMap<>();
-            countItem.put("item_code", count.get("SKU"));
-            countItem.put("system_quantity", Integer.parseInt(count.get("System")));
-            countItem.put("physical_quantity", Integer.parseInt(count.get("Physical")));
-            physicalCounts.add(countItem);
-            
-            int variance = Integer.parseInt(count.get("Physical")) - Integer.parseInt(count.get("System"));
-            StepLogger.info("Physical count: " + count.get("SKU") + 
-                          " - System: " + count.get("System") + 
-                          ", Physical: " + count.get("Physical") + 
-                          ", Variance: " + variance);
+        List<CountLine> physicalCounts = counts.toList();
+        for (CountLine count : physicalCounts) {
+            StepLogger.info(() -> "Physical count: " + count.sku() +
+                          " - System: " + count.systemQuantity() +
+                          ", Physical: " + count.physicalQuantity() +
+                          ", Variance: " + count.variance());
         }
         
         String location = dataManager.getMetadataAsString("cycle_count_location");
@@ -222,6 +202,23 @@ public class InventoryAdjustmentStepDefinitions extends WebDriverConfig {
         StepLogger.passWithScreenshot("Physical count completed successfully");
     }
     
+    @When("I perform physical count from {string}")
+    public void i_perform_physical_count_from(String file) {
+        StepLogger.info("Performing physical count from " + file);
+        
+        try (BulkRows<CountLine> counts = BulkRows.open(file, CountLine::columns)) {
+            String location = dataManager.getMetadataAsString("cycle_count_location");
+            Map<String, Object> parameters = new LinkedHashMap<>();
+            parameters.put("location", location);
+            parameters.put("count_data", counts);
+            
+            boolean result = inventoryPage.performPageOperation("cycle_count", parameters);
+            Assert.assertTrue(result, "Failed to perform physical count");
+            
+            StepLogger.passWithScreenshot("Physical count completed successfully (" + counts.getRowCount() + " lines)");
+        }
+    }
+    
     @When("I investigate discrepancies for items with variance")
     public void i_investigate_discrepancies_for_items_with_variance() {
         StepLogger.info("Investigating discrepancies for items with variance");
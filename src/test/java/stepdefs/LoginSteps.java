@@ -6,6 +6,7 @@ import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
 import pages.LoginPage;
 import utils.BaseUtil;
+import utils.ExcelExamples;
 import utils.WebDriverConfig;
 
 import java.io.IOException;
@@ -34,6 +35,10 @@ public class LoginSteps {
         loginPage.login_ace("username","Pwsjejd^888#ftvgsh");
         System.out.println("qwer5t6y7u8iop");
     }
+    @When("User enters the log in details from the current data row")
+    public void user_enters_the_log_in_details_from_the_current_data_row() throws IOException {
+        loginPage.login_ace(ExcelExamples.value("Username"), ExcelExamples.value("Password"));
+    }
     @Then("User should be able to view the product category page")
     public void user_should_be_able_to_view_the_product_category_page() {
         System.out.println("qwer5t6y7u8iop");
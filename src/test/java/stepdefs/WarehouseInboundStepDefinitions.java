@@ -11,6 +11,11 @@ import pages.InboundShipmentPage;
 import utils.StepLogger;
 import utils.WarehouseDataManager;
 import utils.BaseUtil;
+import utils.BulkRows;
+import utils.WarehouseRows.PalletLine;
+import utils.WarehouseRows.PalletLines;
+import utils.WarehouseRows.SkuLine;
+import utils.WarehouseRows.SkuLines;
 
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
@@ -37,22 +42,18 @@ public class WarehouseInboundStepDefinitions extends BaseUtil {
     
     // Constructor demonstrating dependency injection
     public WarehouseInboundStepDefinitions() {
+        this.inboundPage = new InboundShipmentPage();
         this.dataManager = WarehouseDataManager.getInstance();
         StepLogger.info("Initialized Warehouse Inbound Step Definitions");
     }
     
     @Given("I create an inbound shipment {string} with items:")
-    public void iCreateAnInboundShipmentWithItems(String shipmentId, DataTable dataTable) {
+    public void iCreateAnInboundShipmentWithItems(String shipmentId, SkuLines items) {
         StepLogger.stepStart("Given I create an inbound shipment " + shipmentId + " with items");
         
         try {
-            // Convert DataTable to List of Maps - demonstrates collections usage
-            List<Map<String, String>> items = dataTable.asMaps(String.class, String.class);
-            
-            // Transform data using streams and lambda expressions
-            List<Map<String, Object>> transformedItems = items.stream()
-                    .map(this::transformItemData)
-                    .collect(Collectors.toList());
+            // Rows arrive typed - columns were resolved once by the registered table type
+            List<SkuLine> transformedItems = items.toList();
             
             // Store shipment data using various collection types
             Map<String, Object> shipmentData = new HashMap<>();
@@ -76,11 +77,8 @@ public class WarehouseInboundStepDefinitions extends BaseUtil {
                 StepLogger.passWithScreenshot("Inbound shipment created successfully: " + shipmentId);
                 
                 // Store expected quantities in data manager
-                transformedItems.forEach(item -> {
-                    String sku = (String) item.get("sku");
-                    Integer quantity = (Integer) item.get("quantity");
-                    dataManager.storeShipmentData(shipmentId, "expected_" + sku, quantity);
-                });
+                transformedItems.forEach(item ->
+                        dataManager.storeShipmentData(shipmentId, "expected_" + item.sku(), item.quantity()));
                 
             } else {
                 StepLogger.failWithScreenshot("Failed to create inbound shipment: " + shipmentId);
@@ -96,6 +94,27 @@ public class WarehouseInboundStepDefinitions extends BaseUtil {
         }
     }
     
+    @Given("I create an inbound shipment {string} with items from {string}")
+    public void iCreateAnInboundShipmentWithItemsFrom(String shipmentId, String file) {
+        StepLogger.stepStart("Given I create an inbound shipment " + shipmentId + " with items from " + file);
+        
+        // Lines are streamed from the file in chunks - the page stores each expected quantity as it goes
+        try (BulkRows<SkuLine> items = BulkRows.open(file, SkuLine::columns)) {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("shipment_id", shipmentId);
+            parameters.put("items", items);
+            
+            if (!inboundPage.performPageOperation("create_shipment", parameters)) {
+                StepLogger.failWithScreenshot("Failed to create inbound shipment: " + shipmentId);
+                throw new RuntimeException("Shipment creation failed");
+            }
+            processedShipments.add(shipmentId);
+            
+            addToOperationHistory("Shipment created: " + shipmentId + " with " + items.getRowCount() + " items from " + items.getName());
+            StepLogger.passWithScreenshot("Inbound shipment created successfully: " + shipmentId + " (" + items.getRowCount() + " items)");
+        }
+    }
+    
     @When("I navigate to the pre-receiving change screen for shipment {string}")
     public void iNavigateToThePreReceivingChangeScreenForShipment(String shipmentId) {
         StepLogger.stepStart("When I navigate to the pre-receiving change screen for shipment " + shipmentId);
@@ -237,22 +256,11 @@ public class WarehouseInboundStepDefinitions extends BaseUtil {
     }
     
     @And("I check pallets with customer sent pallet as full receiving:")
-    public void iCheckPalletsWithCustomerSentPalletAsFullReceiving(DataTable dataTable) {
+    public void iCheckPalletsWithCustomerSentPalletAsFullReceiving(PalletLines pallets) {
         StepLogger.stepStart("And I check pallets with customer sent pallet as full receiving");
         
         try {
-            List<Map<String, String>> palletData = dataTable.asMaps(String.class, String.class);
-            
-            // Transform pallet data using complex stream operations
-            List<Map<String, Object>> transformedPallets = palletData.stream()
-                    .map(row -> {
-                        Map<String, Object> pallet = new HashMap<>();
-                        pallet.put("pallet_id", row.get("Pallet ID"));
-                        pallet.put("skus", Arrays.asList(row.get("SKUs").split(",\\s*")));
-                        pallet.put("status", row.get("Status"));
-                        return pallet;
-                    })
-                    .collect(Collectors.toList());
+            List<PalletLine> transformedPallets = pallets.toList();
             
             Map<String, Object> parameters = new HashMap<>();
             parameters.put("pallets", transformedPallets);
@@ -263,13 +271,8 @@ public class WarehouseInboundStepDefinitions extends BaseUtil {
                 StepLogger.passWithScreenshot("Pallets checked successfully for full receiving");
                 
                 // Store pallet assignments using List operations
-                transformedPallets.forEach(pallet -> {
-                    String palletId = (String) pallet.get("pallet_id");
-                    @SuppressWarnings("unchecked")
-                    List<String> skus = (List<String>) pallet.get("skus");
-                    
-                    skus.forEach(sku -> dataManager.assignPallet(sku.trim(), palletId));
-                });
+                transformedPallets.forEach(pallet ->
+                        pallet.skus().forEach(sku -> dataManager.assignPallet(sku, pallet.palletId())));
                 
             } else {
                 StepLogger.failWithScreenshot("Failed to check pallets");
@@ -360,6 +363,29 @@ public class WarehouseInboundStepDefinitions extends BaseUtil {
         }
     }
     
+    @Then("shipment {string} should list {int} expected items")
+    public void shipmentShouldListExpectedItems(String shipmentId, int expectedCount) {
+        StepLogger.stepStart("Then shipment " + shipmentId + " should list " + expectedCount + " expected items");
+        
+        try {
+            // A file-backed shipment is re-read here - the page keeps no per-line copy of it
+            Map<String, Integer> expectedItems = inboundPage.getExpectedItems();
+            
+            if (expectedItems.size() == expectedCount) {
+                StepLogger.pass("Shipment " + shipmentId + " lists " + expectedItems.size() + " expected items");
+            } else {
+                StepLogger.failWithScreenshot("Shipment " + shipmentId + " lists " + expectedItems.size() + " expected items, expected " + expectedCount);
+                throw new RuntimeException("Expected item count mismatch for " + shipmentId);
+            }
+            
+            StepLogger.stepComplete("Then shipment " + shipmentId + " should list " + expectedCount + " expected items");
+            
+        } catch (Exception e) {
+            StepLogger.failWithScreenshot("Failed to validate expected items: " + e.getMessage());
+            throw e;
+        }
+    }
+    
     @Then("the receipt should be printed successfully")
     public void theReceiptShouldBePrintedSuccessfully() {
         StepLogger.stepStart("Then the receipt should be printed successfully");
@@ -438,14 +464,6 @@ public class WarehouseInboundStepDefinitions extends BaseUtil {
     
     // Helper methods demonstrating various Java concepts
     
-    private Map<String, Object> transformItemData(Map<String, String> rawItem) {
-        Map<String, Object> transformedItem = new HashMap<>();
-        transformedItem.put("sku", rawItem.get("SKU"));
-        transformedItem.put("quantity", Integer.parseInt(rawItem.get("Quantity")));
-        transformedItem.put("description", rawItem.get("Description"));
-        return transformedItem;
-    }
-    
     private void addToOperationHistory(String operation) {
         operationHistory.add(new Date() + ": " + operation);
     }
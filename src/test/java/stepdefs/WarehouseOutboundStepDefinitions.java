@@ -5,8 +5,13 @@ import io.cucumber.java.en.*;
 import io.restassured.response.Response;
 import org.testng.Assert;
 import pages.OutboundShipmentPage;
+import utils.BulkRows;
 import utils.StepLogger;
 import utils.WarehouseDataManager;
+import utils.WarehouseRows.PickLine;
+import utils.WarehouseRows.PickLines;
+import utils.WarehouseRows.SkuLine;
+import utils.WarehouseRows.SkuLines;
 import utils.WebDriverConfig;
 
 import java.util.*;
@@ -28,20 +33,12 @@ public class WarehouseOutboundStepDefinitions extends WebDriverConfig {
     
     // Order creation steps
     @Given("I create a new outbound order {string} with items:")
-    public void i_create_a_new_outbound_order_with_items(String orderId, DataTable dataTable) {
+    public void i_create_a_new_outbound_order_with_items(String orderId, SkuLines items) {
         StepLogger.info("Creating new outbound order: " + orderId);
         
-        List<Map<String, String>> items = dataTable.asMaps(String.class, String.class);
-        List<Map<String, Object>> orderItems = new ArrayList<>();
-        
-        for (Map<String, String> item : items) {
-            Map<String, Object> orderItem = new LinkedHashMap<>();
-            orderItem.put("sku", item.get("SKU"));
-            orderItem.put("quantity", Integer.parseInt(item.get("Quantity")));
-            orderItem.put("description", item.get("Description"));
-            orderItems.add(orderItem);
-            
-            StepLogger.info("Added item: " + item.get("SKU") + " - Quantity: " + item.get("Quantity"));
+        List<SkuLine> orderItems = items.toList();
+        for (SkuLine item : orderItems) {
+            StepLogger.info(() -> "Added item: " + item.sku() + " - Quantity: " + item.quantity());
         }
         
         Map<String, Object> parameters = new LinkedHashMap<>();
@@ -54,24 +51,40 @@ public class WarehouseOutboundStepDefinitions extends WebDriverConfig {
         StepLogger.passWithScreenshot("Outbound order created successfully: " + orderId);
     }
     
+    @Given("I create a new outbound order {string} with items from {string}")
+    public void i_create_a_new_outbound_order_with_items_from(String orderId, String file) {
+        StepLogger.info("Creating new outbound order " + orderId + " from " + file);
+        
+        try (BulkRows<SkuLine> items = BulkRows.open(file, SkuLine::columns)) {
+            Map<String, Object> parameters = new LinkedHashMap<>();
+            parameters.put("order_id", orderId);
+            parameters.put("items", items);
+            
+            boolean result = outboundPage.performPageOperation("create_order", parameters);
+            Assert.assertTrue(result, "Failed to create outbound order: " + orderId);
+            
+            StepLogger.passWithScreenshot("Outbound order created successfully: " + orderId + " (" + items.getRowCount() + " items)");
+        }
+    }
+    
     @Given("I create a new outbound order {string} with large quantities:")
-    public void i_create_a_new_outbound_order_with_large_quantities(String orderId, DataTable dataTable) {
-        i_create_a_new_outbound_order_with_items(orderId, dataTable);
+    public void i_create_a_new_outbound_order_with_large_quantities(String orderId, SkuLines items) {
+        i_create_a_new_outbound_order_with_items(orderId, items);
     }
     
     @Given("I create a new outbound order {string} with mixed items:")
-    public void i_create_a_new_outbound_order_with_mixed_items(String orderId, DataTable dataTable) {
-        i_create_a_new_outbound_order_with_items(orderId, dataTable);
+    public void i_create_a_new_outbound_order_with_mixed_items(String orderId, SkuLines items) {
+        i_create_a_new_outbound_order_with_items(orderId, items);
     }
     
     @Given("I create a new outbound order {string} with compatible items:")
-    public void i_create_a_new_outbound_order_with_compatible_items(String orderId, DataTable dataTable) {
-        i_create_a_new_outbound_order_with_items(orderId, dataTable);
+    public void i_create_a_new_outbound_order_with_compatible_items(String orderId, SkuLines items) {
+        i_create_a_new_outbound_order_with_items(orderId, items);
     }
     
     @Given("I create a new outbound order {string} with original items:")
-    public void i_create_a_new_outbound_order_with_original_items(String orderId, DataTable dataTable) {
-        i_create_a_new_outbound_order_with_items(orderId, dataTable);
+    public void i_create_a_new_outbound_order_with_original_items(String orderId, SkuLines items) {
+        i_create_a_new_outbound_order_with_items(orderId, items);
     }
     
     // Navigation steps
@@ -131,20 +144,12 @@ public class WarehouseOutboundStepDefinitions extends WebDriverConfig {
     
     // Picking steps
     @When("I complete manual pick with pallet numbers:")
-    public void i_complete_manual_pick_with_pallet_numbers(DataTable dataTable) {
+    public void i_complete_manual_pick_with_pallet_numbers(PickLines picks) {
         StepLogger.info("Completing manual pick with pallet assignments");
         
-        List<Map<String, String>> pickData = dataTable.asMaps(String.class, String.class);
-        List<Map<String, Object>> pickItems = new ArrayList<>();
-        
-        for (Map<String, String> pick : pickData) {
-            Map<String, Object> pickItem = new LinkedHashMap<>();
-            pickItem.put("sku", pick.get("SKU"));
-            pickItem.put("pallet_id", pick.get("Pallet ID"));
-            pickItem.put("quantity", Integer.parseInt(pick.get("Quantity")));
-            pickItems.add(pickItem);
-            
-            StepLogger.info("Pick assignment: " + pick.get("SKU") + " -> Pallet: " + pick.get("Pallet ID"));
+        List<PickLine> pickItems = picks.toList();
+        for (PickLine pick : pickItems) {
+            StepLogger.info(() -> "Pick assignment: " + pick.sku() + " -> Pallet: " + pick.palletId());
         }
         
         Map<String, Object> parameters = new LinkedHashMap<>();
@@ -213,14 +218,11 @@ public class WarehouseOutboundStepDefinitions extends WebDriverConfig {
         List<Map<String, Object>> shortageItems = (List<Map<String, Object>>) dataManager.getMetadata("shortage_items");
         
         if (shortageItems != null) {
-            List<Map<String, Object>> pickItems = new ArrayList<>();
+            List<PickLine> pickItems = new ArrayList<>();
             
             for (Map<String, Object> item : shortageItems) {
-                Map<String, Object> pickItem = new LinkedHashMap<>();
-                pickItem.put("sku", item.get("sku"));
-                pickItem.put("quantity", item.get("picked"));
-                pickItem.put("pallet_id", "PLT-SHORT-" + item.get("sku"));
-                pickItems.add(pickItem);
+                String sku = (String) item.get("sku");
+                pickItems.add(new PickLine(sku, "PLT-SHORT-" + sku, (Integer) item.get("picked")));
             }
             
             Map<String, Object> parameters = new LinkedHashMap<>();
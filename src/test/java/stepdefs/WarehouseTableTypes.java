@@ -0,0 +1,37 @@
+package stepdefs;
+
+import io.cucumber.datatable.DataTable;
+import io.cucumber.java.DataTableType;
+import utils.WarehouseRows.CountLines;
+import utils.WarehouseRows.PalletLines;
+import utils.WarehouseRows.PickLines;
+import utils.WarehouseRows.SkuLines;
+
+/**
+ * Warehouse Table Types - Registers the typed warehouse tables with Cucumber
+ * A step parameter declared as SkuLines (or PalletLines, PickLines, CountLines) receives the
+ * whole table converted by these table transformers: columns are looked up once per table and rows
+ * are converted by index while the step iterates.
+ */
+public class WarehouseTableTypes {
+
+    @DataTableType
+    public SkuLines skuLines(DataTable table) {
+        return new SkuLines(table);
+    }
+
+    @DataTableType
+    public PalletLines palletLines(DataTable table) {
+        return new PalletLines(table);
+    }
+
+    @DataTableType
+    public PickLines pickLines(DataTable table) {
+        return new PickLines(table);
+    }
+
+    @DataTableType
+    public CountLines countLines(DataTable table) {
+        return new CountLines(table);
+    }
+}
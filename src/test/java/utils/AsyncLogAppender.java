@@ -0,0 +1,153 @@
+package utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AsyncLogAppender - Console and Result.log sink for StepLogger, written off the scenario threads
+ * Lines go through a bounded queue to a single daemon thread that prints them in batches, so scenario
+ * threads no longer contend on the System.out / System.err lock. A full queue blocks the caller
+ * (backpressure, nothing is dropped). flush() waits until everything queued is written.
+ * Configured in extent.properties:
+ *   log.async=true|false (false = write on the calling thread, previous behaviour)
+ *   log.file=Test-Results/LoggerFile/Result.log (empty = console only)
+ */
+public class AsyncLogAppender {
+
+    private static final int QUEUE_CAPACITY = 8192;
+    private static final int BATCH_SIZE = 256;
+    private static final boolean ASYNC = Boolean.parseBoolean(ExtentProperties.get("log.async", "true"));
+    private static final String FILE = ExtentProperties.get("log.file", "Test-Results/LoggerFile/Result.log");
+
+    private record Line(boolean error, String text) {
+    }
+
+    private static final BlockingQueue<Line> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private static final AtomicLong enqueued = new AtomicLong();
+    private static final AtomicLong written = new AtomicLong();
+    private static final Object lock = new Object();
+    private static final Writer file = openFile();
+
+    static {
+        if (ASYNC) {
+            Thread thread = new Thread(AsyncLogAppender::drain, "log-appender");
+            thread.setDaemon(true);
+            thread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(AsyncLogAppender::flush, "log-appender-shutdown"));
+        }
+    }
+
+    private static Writer openFile() {
+        if (FILE.isEmpty()) {
+            return null;
+        }
+        File logFile = new File(FILE);
+        if (logFile.getParentFile() != null) {
+            logFile.getParentFile().mkdirs();
+        }
+        try {
+            return new OutputStreamWriter(new FileOutputStream(logFile), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("Failed to open " + FILE + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public static void out(String text) {
+        append(new Line(false, text));
+    }
+
+    public static void err(String text) {
+        append(new Line(true, text));
+    }
+
+    private static void append(Line line) {
+        if (ASYNC) {
+            enqueued.incrementAndGet();
+            try {
+                queue.put(line);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                written.incrementAndGet();
+            }
+        }
+        synchronized (lock) {
+            write(List.of(line));
+        }
+    }
+
+    private static void drain() {
+        List<Line> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            synchronized (lock) {
+                write(batch);
+                written.addAndGet(batch.size());
+                lock.notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * One print per stream per batch; order is kept within each stream and in the file
+     */
+    private static void write(List<Line> lines) {
+        StringBuilder out = new StringBuilder();
+        StringBuilder err = new StringBuilder();
+        for (Line line : lines) {
+            (line.error() ? err : out).append(line.text()).append(System.lineSeparator());
+        }
+        if (!out.isEmpty()) {
+            System.out.print(out);
+            System.out.flush();
+        }
+        if (!err.isEmpty()) {
+            System.err.print(err);
+            System.err.flush();
+        }
+        if (file != null) {
+            try {
+                for (Line line : lines) {
+                    file.write(line.error() ? "ERROR " : "");
+                    file.write(line.text());
+                    file.write(System.lineSeparator());
+                }
+                file.flush();
+            } catch (IOException e) {
+                System.err.println("Failed to write " + FILE + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Block until every queued line has been written
+     */
+    public static void flush() {
+        synchronized (lock) {
+            while (written.get() < enqueued.get()) {
+                try {
+                    lock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
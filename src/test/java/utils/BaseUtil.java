@@ -8,36 +8,19 @@ import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.Properties;
 
 public class BaseUtil extends WebDriverConfig{
 
 
-    /**
-     * Reads Global settings.properties file.
-     */
-    public static Properties properties(){
-        Properties prop = new Properties();
-        try {
-            FileInputStream fis = new FileInputStream(System.getProperty("user.dir") + "\\src\\test\\resources\\Global settings.properties");
-            prop.load(fis);
-        }
-        catch (Exception e){
-            System.out.println(e);
-        }
-        return prop;
-    }
-
     /**
      * Gets the value from property file.
+     * Served from the cached TestConfig snapshot, so the file is not re-read per lookup.
      * @param key value of the key mentioned in property file
      */
     public String readProp(String key){
-        return properties().getProperty(key);
+        return TestConfig.get(key);
     }
 
     /**
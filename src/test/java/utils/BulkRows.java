@@ -0,0 +1,291 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * BulkRows - Typed rows streamed from a CSV or xlsx file referenced by a step
+ * Lets a scenario drive thousands of lines ("... with items from "bulk/shipment-5k.csv"") without putting
+ * them in the feature file. Rows are read in chunks of bulk.chunk.size (Global settings.properties,
+ * default 500); only the current chunk is in memory and progress is logged after every chunk. The
+ * first line is the header and columns are resolved once with the same binders the step tables use
+ * (e.g. SkuLine::columns). Each iteration re-opens the file, so a page operation may pass over it more than once.
+ * Page operations given a BulkRows keep no per-line copies; reports asked for afterwards re-read it with toMap.
+ * References are resolved against the project directory, then src/test/resources. For xlsx files the sheet
+ * is chosen with '#' (bulk/orders.xlsx#Lines); without it the first sheet is read.
+ * Usage:
+ *   try (BulkRows<SkuLine> items = BulkRows.open("bulk/shipment-5k.csv", SkuLine::columns)) {
+ *       inboundPage.performPageOperation("create_shipment", Map.of("shipment_id", id, "items", items));
+ *   }
+ */
+public class BulkRows<R> implements Iterable<R>, Closeable {
+
+    private static final File RESOURCES = Paths.get(System.getProperty("user.dir"), "src", "test", "resources").toFile();
+
+    private final File file;
+    private final String sheetName;
+    private final Function<TableRows.Header, Function<List<String>, R>> binder;
+    private final int chunkSize;
+    private final List<Closeable> openSources = new ArrayList<>();
+    private long rowCount;
+
+    private BulkRows(File file, String sheetName, Function<TableRows.Header, Function<List<String>, R>> binder, int chunkSize) {
+        this.file = file;
+        this.sheetName = sheetName;
+        this.binder = binder;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Rows of a CSV or xlsx file, converted by the binder's column mapping
+     */
+    public static <R> BulkRows<R> open(String reference, Function<TableRows.Header, Function<List<String>, R>> binder) {
+        int hash = reference.lastIndexOf('#');
+        String path = hash < 0 ? reference : reference.substring(0, hash);
+        String sheet = hash < 0 ? null : reference.substring(hash + 1);
+        File file = new File(path);
+        if (!file.isAbsolute() && !file.exists()) {
+            file = new File(RESOURCES, path);
+        }
+        if (!file.isFile()) {
+            throw new IllegalArgumentException("Bulk data file not found: " + reference);
+        }
+        return new BulkRows<>(file, sheet, binder, Math.max(1, TestConfig.getInt("bulk.chunk.size", 500)));
+    }
+
+    public String getName() {
+        return file.getName();
+    }
+
+    /**
+     * Rows read by the last completed (or current) pass
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * One pass collected into a map (later rows win) - for reports that need every line at once
+     */
+    public <K, V> Map<K, V> toMap(Function<R, K> key, Function<R, V> value) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (R row : this) {
+            result.put(key.apply(row), value.apply(row));
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<R> iterator() {
+        RowSource source = openSource();
+        synchronized (openSources) {
+            openSources.add(source);
+        }
+        Function<List<String>, R> converter = binder.apply(TableRows.Header.of(source.header()));
+        rowCount = 0;
+        return new Iterator<>() {
+            private final List<List<String>> chunk = new ArrayList<>(chunkSize);
+            private final long start = System.nanoTime();
+            private int position;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                if (position < chunk.size()) {
+                    return true;
+                }
+                if (exhausted) {
+                    return false;
+                }
+                readChunk();
+                return position < chunk.size();
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return converter.apply(chunk.get(position++));
+            }
+
+            private void readChunk() {
+                chunk.clear();
+                position = 0;
+                try {
+                    List<String> row;
+                    while (chunk.size() < chunkSize && (row = source.next()) != null) {
+                        chunk.add(row);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read " + file, e);
+                }
+                rowCount += chunk.size();
+                if (chunk.size() < chunkSize) {
+                    exhausted = true;
+                    closeSource(source);
+                }
+                // The final read of a file whose rows fill the last chunk exactly is empty - it still logs "done"
+                if (!chunk.isEmpty() || exhausted) {
+                    double seconds = Math.max(1e-9, (System.nanoTime() - start) / 1_000_000_000.0);
+                    long rows = rowCount;
+                    StepLogger.info(() -> String.format("%s: %d rows read%s (%.0f rows/s)",
+                            file.getName(), rows, exhausted ? ", done" : "", rows / seconds));
+                }
+            }
+        };
+    }
+
+    private RowSource openSource() {
+        try {
+            return file.getName().toLowerCase().endsWith(".xlsx") ? new SheetSource(file, sheetName) : new CsvSource(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + file, e);
+        }
+    }
+
+    private void closeSource(Closeable source) {
+        synchronized (openSources) {
+            openSources.remove(source);
+        }
+        try {
+            source.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Close any pass that was not read to the end (e.g. the page operation failed half way)
+     */
+    @Override
+    public void close() {
+        List<Closeable> sources;
+        synchronized (openSources) {
+            sources = new ArrayList<>(openSources);
+        }
+        sources.forEach(this::closeSource);
+    }
+
+    private interface RowSource extends Closeable {
+        List<String> header();
+
+        /**
+         * Next data row, or null at the end of the file
+         */
+        List<String> next() throws IOException;
+    }
+
+    private static final class CsvSource implements RowSource {
+        private final BufferedReader reader;
+        private final List<String> header;
+
+        private CsvSource(File file) throws IOException {
+            reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+            List<String> first = next();
+            header = first != null ? first : List.of();
+        }
+
+        @Override
+        public List<String> header() {
+            return header;
+        }
+
+        @Override
+        public List<String> next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            return parseLine(line);
+        }
+
+        /**
+         * One CSV record - commas inside double quotes are kept, "" is an escaped quote
+         */
+        private static List<String> parseLine(String line) {
+            List<String> cells = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        cell.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        cell.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString().trim());
+                    cell.setLength(0);
+                } else {
+                    cell.append(c);
+                }
+            }
+            cells.add(cell.toString().trim());
+            return cells;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class SheetSource implements RowSource {
+        private final StreamingSheetReader reader;
+        private final Iterator<StreamingSheetReader.Row> rows;
+        private final int width;
+
+        private SheetSource(File file, String sheetName) throws IOException {
+            reader = StreamingSheetReader.open(file.getPath(), sheetName);
+            rows = reader.iterator();
+            width = reader.getHeaders().size();
+        }
+
+        @Override
+        public List<String> header() {
+            return reader.getHeaders();
+        }
+
+        @Override
+        public List<String> next() {
+            if (!rows.hasNext()) {
+                return null;
+            }
+            StreamingSheetReader.Row row = rows.next();
+            String[] values = new String[width];
+            for (int i = 0; i < width; i++) {
+                values[i] = row.get(i);
+            }
+            return Arrays.asList(values);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CompiledWorkbook - Columnar binary form of a test-data workbook, memory-mapped at runtime
+ * TestDataCompiler writes one .tdb file per workbook at build time; WorkbookIndex maps it instead of
+ * parsing OOXML when it is newer than the workbook. Opening reads only the sheet headers, cells are
+ * decoded on access straight from the mapping, and parallel JVMs share the file through the page cache.
+ * Layout (big-endian):
+ *   "TDB1", version, source lastModified, source length, sheet count, [sheet name, sheet offset]...
+ *   per sheet: columns, rows, header strings, dictionary size, dictionary offsets, dictionary bytes,
+ *              (serial, row) pairs sorted by serial, serial per row, one int column of dictionary ids
+ *              per header (-1 = empty cell)
+ */
+public class CompiledWorkbook {
+
+    private static final int MAGIC = 0x54444231;
+    private static final int VERSION = 1;
+
+    /**
+     * Compiled file for a workbook: <testdata.compiled.dir>/<name>.tdb (default target/test-data)
+     */
+    public static File compiledFileFor(File workbook) {
+        String dir = System.getProperty("testdata.compiled.dir",
+                Path.of(System.getProperty("user.dir"), "target", "test-data").toString());
+        String name = workbook.getName().replaceFirst("\\.xlsx$", "");
+        return new File(dir, name + ".tdb");
+    }
+
+    /**
+     * Write the sheets of a workbook - to a temp file first, then moved into place so readers never
+     * see a half-written file
+     */
+    public static void write(File source, Collection<? extends SheetData> sheets, File target) throws IOException {
+        List<String> names = new ArrayList<>();
+        List<byte[]> blocks = new ArrayList<>();
+        for (SheetData sheet : sheets) {
+            names.add(sheet.getName());
+            blocks.add(sheetBlock(sheet));
+        }
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(header);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(source.lastModified());
+        out.writeLong(source.length());
+        out.writeInt(names.size());
+        int directorySize = header.size();
+        for (String name : names) {
+            directorySize += 4 + name.getBytes(StandardCharsets.UTF_8).length + 8;
+        }
+        long offset = directorySize;
+        for (int i = 0; i < names.size(); i++) {
+            writeString(out, names.get(i));
+            out.writeLong(offset);
+            offset += blocks.get(i).length;
+        }
+
+        Files.createDirectories(target.toPath().toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(target.toPath().toAbsolutePath().getParent(), target.getName(), ".tmp");
+        try (DataOutputStream file = new DataOutputStream(Files.newOutputStream(temp))) {
+            file.write(header.toByteArray());
+            for (byte[] block : blocks) {
+                file.write(block);
+            }
+        }
+        // Temp files are owner-only; other JVMs / users running the suite must be able to map it
+        temp.toFile().setReadable(true, false);
+        Files.move(temp, target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[] sheetBlock(SheetData sheet) throws IOException {
+        int columns = sheet.getHeaders().size();
+        int rows = sheet.getRowCount();
+
+        // String dictionary - every distinct cell value stored once
+        Map<String, Integer> ids = new LinkedHashMap<>();
+        int[][] cells = new int[columns][rows];
+        for (int column = 0; column < columns; column++) {
+            for (int row = 0; row < rows; row++) {
+                String value = sheet.cell(row, column);
+                cells[column][row] = value == null ? -1 : ids.computeIfAbsent(value, v -> ids.size());
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(columns);
+        out.writeInt(rows);
+        for (String header : sheet.getHeaders()) {
+            writeString(out, header);
+        }
+
+        out.writeInt(ids.size());
+        List<byte[]> encoded = new ArrayList<>(ids.size());
+        int dictionaryOffset = 0;
+        for (String value : ids.keySet()) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            encoded.add(utf8);
+            out.writeInt(dictionaryOffset);
+            dictionaryOffset += utf8.length;
+        }
+        out.writeInt(dictionaryOffset);
+        for (byte[] utf8 : encoded) {
+            out.write(utf8);
+        }
+
+        Integer[] order = new Integer[rows];
+        for (int row = 0; row < rows; row++) {
+            order[row] = row;
+        }
+        // Stable sort keeps the first row of a duplicated serial first, like SheetIndex
+        Arrays.sort(order, Comparator.comparingDouble(sheet::serial));
+        for (Integer row : order) {
+            out.writeDouble(sheet.serial(row));
+            out.writeInt(row);
+        }
+        for (int row = 0; row < rows; row++) {
+            out.writeDouble(sheet.serial(row));
+        }
+        for (int[] column : cells) {
+            for (int id : column) {
+                out.writeInt(id);
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    /**
+     * Map the compiled form of a workbook, or null when there is none or the workbook changed since
+     * it was compiled (the caller then parses the xlsx)
+     */
+    public static Map<String, SheetData> openIfFresh(File workbook) throws IOException {
+        File compiled = compiledFileFor(workbook);
+        if (!compiled.isFile()) {
+            return null;
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(compiled.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < 28 || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.getLong(8) != workbook.lastModified() || buffer.getLong(16) != workbook.length()) {
+            return null;
+        }
+        int sheetCount = buffer.getInt(24);
+        Map<String, SheetData> sheets = new HashMap<>();
+        int position = 28;
+        for (int i = 0; i < sheetCount; i++) {
+            int length = buffer.getInt(position);
+            String name = readString(buffer, position + 4, length);
+            position += 4 + length;
+            long offset = buffer.getLong(position);
+            position += 8;
+            sheets.put(name, new MappedSheet(name, buffer, (int) offset));
+        }
+        return sheets;
+    }
+
+    private static String readString(MappedByteBuffer buffer, int position, int length) {
+        byte[] utf8 = new byte[length];
+        buffer.get(position, utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Sheet read directly from the mapping - only headers are decoded up front. Absolute reads only,
+     * so one instance is shared by all threads.
+     */
+    private static final class MappedSheet implements SheetData {
+
+        private final String name;
+        private final MappedByteBuffer buffer;
+        private final List<String> headers;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private final int rows;
+        private final int dictionaryOffsets;
+        private final int dictionaryBytes;
+        private final int serialIndex;
+        private final int serialsByRow;
+        private final int cells;
+
+        private MappedSheet(String name, MappedByteBuffer buffer, int offset) {
+            this.name = name;
+            this.buffer = buffer;
+            int columnCount = buffer.getInt(offset);
+            this.rows = buffer.getInt(offset + 4);
+            int position = offset + 8;
+            List<String> headerList = new ArrayList<>(columnCount);
+            for (int column = 0; column < columnCount; column++) {
+                int length = buffer.getInt(position);
+                String header = readString(buffer, position + 4, length);
+                headerList.add(header);
+                columns.putIfAbsent(header.toLowerCase(Locale.ROOT), column);
+                position += 4 + length;
+            }
+            this.headers = Collections.unmodifiableList(headerList);
+            int dictionarySize = buffer.getInt(position);
+            this.dictionaryOffsets = position + 4;
+            this.dictionaryBytes = dictionaryOffsets + (dictionarySize + 1) * 4;
+            this.serialIndex = dictionaryBytes + buffer.getInt(dictionaryOffsets + dictionarySize * 4);
+            this.serialsByRow = serialIndex + rows * 12;
+            this.cells = serialsByRow + rows * 8;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public List<String> getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows;
+        }
+
+        @Override
+        public int columnOf(String header) {
+            return columns.getOrDefault(header.toLowerCase(Locale.ROOT), -1);
+        }
+
+        /**
+         * Binary search over the sorted (serial, row) pairs, leftmost match
+         */
+        @Override
+        public int rowOf(double sno) {
+            int low = 0;
+            int high = rows - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                double serial = buffer.getDouble(serialIndex + mid * 12);
+                if (serial < sno) {
+                    low = mid + 1;
+                } else {
+                    if (serial == sno) {
+                        found = mid;
+                    }
+                    high = mid - 1;
+                }
+            }
+            return found < 0 ? -1 : buffer.getInt(serialIndex + found * 12 + 8);
+        }
+
+        @Override
+        public double serial(int row) {
+            return buffer.getDouble(serialsByRow + row * 8);
+        }
+
+        @Override
+        public String cell(int row, int column) {
+            int id = buffer.getInt(cells + (column * rows + row) * 4);
+            if (id < 0) {
+                return null;
+            }
+            int start = buffer.getInt(dictionaryOffsets + id * 4);
+            int end = buffer.getInt(dictionaryOffsets + (id + 1) * 4);
+            return readString(buffer, dictionaryBytes + start, end - start);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * DomSnapshotBuffer - Rolling buffer of the last N step markers per worker thread, plus the page state at failure
+ * After every step only a label and timestamp are kept in memory (no browser call). When a step fails the
+ * DOM is serialized once and ExtentReportManager.attachDomSnapshots() writes it to an HTML file linked from the
+ * report, together with the trail of steps that led up to it. Green runs never touch the browser for this.
+ * Size is dom.snapshot.buffer.size in extent.properties (0 disables markers and the failure snapshot).
+ */
+public class DomSnapshotBuffer {
+
+    private static final int SIZE = ExtentProperties.getInt("dom.snapshot.buffer.size", 5);
+
+    // Clone without scripts so the saved page renders statically; <base> keeps relative CSS/images working
+    private static final String SNAPSHOT_SCRIPT =
+            "var root = document.documentElement.cloneNode(true);" +
+            "var scripts = root.querySelectorAll('script');" +
+            "for (var i = 0; i < scripts.length; i++) { scripts[i].remove(); }" +
+            "var head = root.querySelector('head');" +
+            "if (head) { var base = document.createElement('base'); base.href = location.href; head.insertBefore(base, head.firstChild); }" +
+            "return [location.href, '<!DOCTYPE html>' + root.outerHTML];";
+
+    /**
+     * Step finished before the failure
+     */
+    public record StepMarker(String label, long timestamp) {
+    }
+
+    /**
+     * Page state serialized when a step failed
+     */
+    public record Snapshot(String label, String url, String html, long timestamp) {
+    }
+
+    private static final ThreadLocal<Deque<StepMarker>> markers = ThreadLocal.withInitial(ArrayDeque::new);
+    // One snapshot per scenario - a failed step and the @After hook both ask for it
+    private static final ThreadLocal<Boolean> captured = ThreadLocal.withInitial(() -> false);
+
+    public static boolean isEnabled() {
+        return SIZE > 0;
+    }
+
+    /**
+     * Remember that a step finished, dropping the oldest marker when full - memory only
+     */
+    public static void mark(String label) {
+        if (!isEnabled()) {
+            return;
+        }
+        Deque<StepMarker> steps = markers.get();
+        if (steps.size() == SIZE) {
+            steps.removeFirst();
+        }
+        steps.addLast(new StepMarker(label, System.currentTimeMillis()));
+    }
+
+    /**
+     * Serialize the current page, or null when disabled, already captured for this scenario or not scriptable
+     */
+    public static Snapshot capture(String label) {
+        WebDriver driver = WebDriverConfig.getDriver();
+        if (!isEnabled() || driver == null || captured.get()) {
+            return null;
+        }
+        captured.set(true);
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT);
+            if (result instanceof List<?> values && values.size() == 2) {
+                return new Snapshot(label, String.valueOf(values.get(0)), String.valueOf(values.get(1)), System.currentTimeMillis());
+            }
+        } catch (WebDriverException e) {
+            // Page not scriptable (e.g. alert open) - the step trail is still reported
+        }
+        return null;
+    }
+
+    /**
+     * Buffered step markers, oldest first - the buffer is emptied
+     */
+    public static List<StepMarker> drain() {
+        Deque<StepMarker> steps = markers.get();
+        List<StepMarker> result = new ArrayList<>(steps);
+        steps.clear();
+        return result;
+    }
+
+    public static void clear() {
+        markers.get().clear();
+        captured.set(false);
+    }
+}
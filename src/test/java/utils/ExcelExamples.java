@@ -0,0 +1,156 @@
+package utils;
+
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * ExcelExamples - Runs a scenario once per row of an Excel sheet instead of a hand-written Examples table
+ * Scenarios tagged @excel:Sheet1 (default workbook) or @excel:path/to/book.xlsx:Sheet1 are expanded into
+ * one TestNG invocation per data row. Rows are streamed from the workbook while the run progresses, so a
+ * sheet with thousands of rows never sits in memory and untagged scenarios pass through unchanged.
+ * Step definitions read the current row through ExcelExamples.value("Username").
+ * Usage: return ExcelExamples.expand(super.scenarios()) from the runner's data provider (see ExcelExamplesRunner)
+ */
+public class ExcelExamples {
+
+    private static final String TAG = "@excel:";
+
+    private static final ThreadLocal<StreamingSheetReader.Row> currentRow = new ThreadLocal<>();
+
+    /**
+     * Scenario pickle bound to one sheet row - shows the row number in the TestNG test name
+     */
+    public static final class RowPickle implements PickleWrapper {
+        private final PickleWrapper pickle;
+        private final StreamingSheetReader.Row row;
+
+        RowPickle(PickleWrapper pickle, StreamingSheetReader.Row row) {
+            this.pickle = pickle;
+            this.row = row;
+        }
+
+        @Override
+        public Pickle getPickle() {
+            return pickle.getPickle();
+        }
+
+        public StreamingSheetReader.Row getRow() {
+            return row;
+        }
+
+        @Override
+        public String toString() {
+            return pickle + " [row " + row.getRowNumber() + "]";
+        }
+    }
+
+    /**
+     * Lazily expand the runner's {pickle, feature} pairs - @excel scenarios yield one pair per sheet row
+     */
+    public static Iterator<Object[]> expand(Object[][] scenarios) {
+        return new Iterator<>() {
+            private int index;
+            private StreamingSheetReader reader;
+            private Iterator<StreamingSheetReader.Row> rows;
+            private Object[] source;
+            private Object[] next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    if (rows != null && rows.hasNext()) {
+                        next = new Object[]{new RowPickle((PickleWrapper) source[0], rows.next()), source[1]};
+                    } else if (rows != null) {
+                        closeReader();
+                    } else if (index < scenarios.length) {
+                        source = scenarios[index++];
+                        String tag = excelTag(((PickleWrapper) source[0]).getPickle());
+                        if (tag == null) {
+                            next = source;
+                        } else {
+                            openReader(tag);
+                        }
+                    } else {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object[] result = next;
+                next = null;
+                return result;
+            }
+
+            private void openReader(String tag) {
+                String spec = tag.substring(TAG.length());
+                int separator = spec.lastIndexOf(':');
+                String path = separator < 0 ? ExcelUtils.getTestDataPath() : spec.substring(0, separator);
+                String sheet = spec.substring(separator + 1);
+                try {
+                    reader = ExcelUtils.streamRows(path, sheet);
+                    rows = reader.iterator();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to open " + sheet + " in " + path + " for " + source[0], e);
+                }
+            }
+
+            private void closeReader() {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    System.err.println("Failed to close test data sheet: " + e.getMessage());
+                }
+                reader = null;
+                rows = null;
+            }
+        };
+    }
+
+    private static String excelTag(Pickle pickle) {
+        return pickle.getTags().stream().filter(tag -> tag.startsWith(TAG)).findFirst().orElse(null);
+    }
+
+    /**
+     * Bind the row of an expanded scenario to the current thread - called by the runner before the scenario
+     */
+    public static void start(PickleWrapper pickle) {
+        if (pickle instanceof RowPickle rowPickle) {
+            currentRow.set(rowPickle.getRow());
+        } else {
+            currentRow.remove();
+        }
+    }
+
+    public static void finish() {
+        currentRow.remove();
+    }
+
+    /**
+     * Row the current scenario runs with, or null outside an @excel scenario
+     */
+    public static StreamingSheetReader.Row current() {
+        return currentRow.get();
+    }
+
+    /**
+     * Cell of the current row by header - Usage: ExcelExamples.value("Username")
+     */
+    public static String value(String column) {
+        StreamingSheetReader.Row row = currentRow.get();
+        if (row == null) {
+            throw new IllegalStateException("No Excel row bound - tag the scenario with @excel:<sheet>");
+        }
+        return row.get(column);
+    }
+}
@@ -1,52 +1,133 @@
 package utils;
 
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-
-import java.io.FileInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 
+/**
+ * ExcelUtils - Test data lookups from the Excel workbooks under src/test/resources/ExcelData
+ * A workbook is parsed once into a WorkbookIndex and reused until its modification time changes,
+ * so readCell is a map lookup instead of a full OOXML parse and linear scan per call.
+ * The loaded workbooks form an immutable snapshot behind an AtomicReference: any number of threads read
+ * without locking, and a (re)load builds a new snapshot and swaps it in with compare-and-set.
+ */
 public class ExcelUtils {
-    public static synchronized String readCell(int sno,String header,String sheetName) throws IOException {
-            try(FileInputStream fis = new FileInputStream(System.getProperty("user.dir")+"\\src\\test\\resources\\ExcelData\\test_data.xlsx");
-                XSSFWorkbook workbook = new XSSFWorkbook(fis)){
-                XSSFSheet sheet = workbook.getSheet(sheetName);
-                int col_target = -1;
-                int row_target = -1;
-                Row headerRow = sheet.getRow(0);
-                for(Cell cell : headerRow){
-                    if(cell.getStringCellValue().equalsIgnoreCase(header)){
-                        col_target = cell.getColumnIndex();
-                        break;
-                    }
-                }
-
-                for(int i = 1; i<=sheet.getLastRowNum();i++){
-                    Row row = sheet.getRow(i);
-                    if(row != null){
-                        Cell cell = row.getCell(0);
-                        double i1 = cell.getNumericCellValue();
-                        if(i1==sno){
-                            row_target = cell.getRowIndex();
-                            break;
-                        }
-                    }
-                }
-
-                if(col_target == -1 || row_target == -1){
-                    throw new IllegalArgumentException("Either column heading or row heading not found in the sheet");
-                }
-                Row dataRow = sheet.getRow(row_target);
-                Cell dataCell = dataRow.getCell(col_target);
-                return switch (dataCell.getCellType()){
-                    case NUMERIC -> String.valueOf(dataCell.getNumericCellValue());
-                    case STRING -> dataCell.getStringCellValue();
-                    case BOOLEAN -> String.valueOf(dataCell.getBooleanCellValue());
-                    default -> null;
-                };
+
+    private static final String TEST_DATA = Paths.get(System.getProperty("user.dir"),
+            "src", "test", "resources", "ExcelData", "test_data.xlsx").toString();
+
+    private static final AtomicReference<Map<String, WorkbookIndex>> snapshot = new AtomicReference<>(Map.of());
+
+    public static String readCell(int sno,String header,String sheetName) throws IOException {
+        return readCell(TEST_DATA, sno, header, sheetName);
+    }
+
+    /**
+     * Read a cell from any workbook - Usage: ExcelUtils.readCell("path/to/data.xlsx", 3, "Username", "Sheet1")
+     */
+    public static String readCell(String workbookPath, int sno, String header, String sheetName) throws IOException {
+        return workbook(workbookPath).sheet(sheetName).value(sno, header);
+    }
+
+    /**
+     * One row of the default workbook as a record - Usage: ExcelUtils.readRow("Sheet1", 2, Credentials.class)
+     * Components are matched to headers by name (see RecordMapper), so a row is read in one call.
+     */
+    public static <R extends Record> R readRow(String sheetName, int sno, Class<R> type) throws IOException {
+        return readRow(TEST_DATA, sheetName, sno, type);
+    }
+
+    public static <R extends Record> R readRow(String workbookPath, String sheetName, int sno, Class<R> type) throws IOException {
+        SheetData sheet = workbook(workbookPath).sheet(sheetName);
+        int row = sheet.rowOf(sno);
+        if (row < 0) {
+            throw new IllegalArgumentException("Row " + sno + " not found in sheet " + sheetName);
+        }
+        return RecordMapper.of(type, sheet).map(row);
+    }
+
+    /**
+     * Every row of the default workbook matching the filter, in sheet order, mapped in a single pass
+     * Usage: ExcelUtils.readRows("Sheet1", Credentials.class, c -> c.sno() <= 4)
+     */
+    public static <R extends Record> List<R> readRows(String sheetName, Class<R> type, Predicate<? super R> filter) throws IOException {
+        return readRows(TEST_DATA, sheetName, type, filter);
+    }
+
+    public static <R extends Record> List<R> readRows(String workbookPath, String sheetName, Class<R> type,
+                                                      Predicate<? super R> filter) throws IOException {
+        SheetData sheet = workbook(workbookPath).sheet(sheetName);
+        RecordMapper<R> mapper = RecordMapper.of(type, sheet);
+        List<R> rows = new ArrayList<>();
+        for (int row = 0; row < sheet.getRowCount(); row++) {
+            R record = mapper.map(row);
+            if (filter.test(record)) {
+                rows.add(record);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Path of the default test-data workbook (src/test/resources/ExcelData/test_data.xlsx)
+     */
+    public static String getTestDataPath() {
+        return TEST_DATA;
+    }
+
+    /**
+     * Stream a large sheet row by row instead of indexing it in memory - see StreamingSheetReader
+     * Usage: try (StreamingSheetReader rows = ExcelUtils.streamRows(path, "Pallets", "PalletId", "Location")) { ... }
+     */
+    public static StreamingSheetReader streamRows(String workbookPath, String sheetName, String... columns) throws IOException {
+        return StreamingSheetReader.open(workbookPath, sheetName, columns);
+    }
+
+    /**
+     * Load the default test data up front - called once before the run so scenarios never parse
+     */
+    public static void preload() throws IOException {
+        workbook(TEST_DATA);
+    }
+
+    /**
+     * Re-read every loaded workbook and publish them together as one new snapshot
+     */
+    public static void reload() throws IOException {
+        Map<String, WorkbookIndex> current;
+        Map<String, WorkbookIndex> next;
+        do {
+            current = snapshot.get();
+            next = new HashMap<>();
+            for (String path : current.keySet()) {
+                next.put(path, WorkbookIndex.load(new File(path)));
             }
+        } while (!snapshot.compareAndSet(current, Map.copyOf(next)));
+    }
 
+    /**
+     * Index from the current snapshot; a missing or modified workbook is parsed without holding any
+     * lock and swapped in - concurrent loaders may both parse, the last swap wins
+     */
+    static WorkbookIndex workbook(String workbookPath) throws IOException {
+        WorkbookIndex index = snapshot.get().get(workbookPath);
+        if (index != null && !index.isStale()) {
+            return index;
+        }
+        WorkbookIndex loaded = WorkbookIndex.load(new File(workbookPath));
+        Map<String, WorkbookIndex> current;
+        Map<String, WorkbookIndex> next;
+        do {
+            current = snapshot.get();
+            next = new HashMap<>(current);
+            next.put(workbookPath, loaded);
+        } while (!snapshot.compareAndSet(current, Map.copyOf(next)));
+        return loaded;
     }
 }
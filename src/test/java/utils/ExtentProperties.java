@@ -0,0 +1,40 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * ExtentProperties - extent.properties loaded once from the test classpath
+ * Shared by the reporting utilities for their own settings (screenshot store, policy, ...).
+ * A system property with the same key wins over the file, e.g. -Dlog.level=debug.
+ */
+public class ExtentProperties {
+
+    private static final Properties properties = load();
+
+    private static Properties load() {
+        Properties props = new Properties();
+        try (InputStream in = ExtentProperties.class.getClassLoader().getResourceAsStream("extent.properties")) {
+            if (in != null) {
+                props.load(in);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to read extent.properties: " + e.getMessage());
+        }
+        return props;
+    }
+
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key, properties.getProperty(key));
+        return value != null ? value.trim() : defaultValue;
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        return Integer.parseInt(get(key, String.valueOf(defaultValue)));
+    }
+
+    public static float getFloat(String key, float defaultValue) {
+        return Float.parseFloat(get(key, String.valueOf(defaultValue)));
+    }
+}
@@ -6,59 +6,176 @@ import com.aventstack.extentreports.MediaEntityBuilder;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
+
 import org.apache.commons.io.FileUtils;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
-import org.openqa.selenium.WebDriver;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
  * ExtentReportManager - Comprehensive utility for Extent Reports integration
  * Provides easy-to-use methods for logging with screenshots
+ * The report is flushed while the run is going (extent.flush.interval.scenarios) so it can be opened
+ * mid-run and survives a crash, and is split into parts of extent.flush.part.size tests: a finished
+ * part is written a final time and dropped from the heap, and an index page links all parts.
  */
 public class ExtentReportManager extends WebDriverConfig {
     
-    private static ExtentReports extent;
+    private static final int FLUSH_INTERVAL = ExtentProperties.getInt("extent.flush.interval.scenarios", 25);
+    private static final int PART_SIZE = ExtentProperties.getInt("extent.flush.part.size", 250);
+    
+    private static final Object lock = new Object();
+    private static ReportPart current;
+    private static final List<String> partPaths = new ArrayList<>();
     private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private static ThreadLocal<ReportPart> testPart = new ThreadLocal<>();
+    private static String reportBase;
     private static String reportPath;
     private static String screenshotDir;
     
+    /**
+     * One Spark report file and the tests it holds in memory
+     */
+    private static final class ReportPart {
+        private final ExtentReports extent;
+        private int started;
+        private int finished;
+        
+        private ReportPart(ExtentReports extent) {
+            this.extent = extent;
+        }
+    }
+    
     /**
      * Initialize Extent Reports
      */
     public static void initializeReport() {
-        if (extent == null) {
-            String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-            reportPath = System.getProperty("user.dir") + "/Test-Results/ExtentReport_" + timestamp + ".html";
-            screenshotDir = System.getProperty("user.dir") + "/Test-Results/Screenshots/";
-            
-            // Create directories if they don't exist
-            new File(screenshotDir).mkdirs();
-            
-            ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
-            sparkReporter.config().setTheme(Theme.STANDARD);
-            sparkReporter.config().setDocumentTitle("Cucumber Test Automation Report");
-            sparkReporter.config().setReportName("Test Execution Report");
-            sparkReporter.config().setTimeStampFormat("yyyy-MM-dd HH:mm:ss");
-            
-            extent = new ExtentReports();
-            extent.attachReporter(sparkReporter);
-            extent.setSystemInfo("OS", System.getProperty("os.name"));
-            extent.setSystemInfo("Java Version", System.getProperty("java.version"));
-            extent.setSystemInfo("User", System.getProperty("user.name"));
+        synchronized (lock) {
+            if (current == null) {
+                String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+                reportBase = System.getProperty("user.dir") + "/Test-Results/ExtentReport_" + timestamp;
+                reportPath = reportBase + ".html";
+                screenshotDir = System.getProperty("user.dir") + "/Test-Results/Screenshots/";
+                
+                // Create directories if they don't exist
+                new File(screenshotDir).mkdirs();
+                
+                current = new ReportPart(createReports(reportPath));
+                partPaths.add(reportPath);
+            }
         }
     }
     
+    private static ExtentReports createReports(String path) {
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(path);
+        sparkReporter.config().setTheme(Theme.STANDARD);
+        sparkReporter.config().setDocumentTitle("Cucumber Test Automation Report");
+        sparkReporter.config().setReportName("Test Execution Report");
+        sparkReporter.config().setTimeStampFormat("yyyy-MM-dd HH:mm:ss");
+        
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(sparkReporter);
+        extent.setSystemInfo("OS", System.getProperty("os.name"));
+        extent.setSystemInfo("Java Version", System.getProperty("java.version"));
+        extent.setSystemInfo("User", System.getProperty("user.name"));
+        return extent;
+    }
+    
     /**
      * Create a new test in the report
      */
     public static void createTest(String testName, String description) {
-        ExtentTest extentTest = extent.createTest(testName, description);
-        test.set(extentTest);
+        synchronized (lock) {
+            ExtentTest extentTest = current.extent.createTest(testName, description);
+            current.started++;
+            test.set(extentTest);
+            testPart.set(current);
+        }
+    }
+    
+    /**
+     * Finish the current test - flushes every extent.flush.interval.scenarios tests and rolls over to
+     * a new report part once the current one holds extent.flush.part.size tests
+     */
+    public static void endTest() {
+        ReportPart part = testPart.get();
+        removeTest();
+        if (part == null) {
+            return;
+        }
+        // Only the bookkeeping runs under the lock - the flushes it schedules happen after it is released,
+        // so other workers' createTest/endTest never wait for disk I/O and HTML rendering
+        List<ReportPart> due = new ArrayList<>();
+        synchronized (lock) {
+            part.finished++;
+            if (part != current) {
+                // Rolled over while this test was running - last one out writes the part for good
+                if (part.finished == part.started) {
+                    due.add(part);
+                }
+            } else {
+                if (FLUSH_INTERVAL > 0 && part.finished % FLUSH_INTERVAL == 0) {
+                    due.add(part);
+                }
+                if (PART_SIZE > 0 && part.finished >= PART_SIZE) {
+                    rollOver(due);
+                }
+            }
+        }
+        for (ReportPart duePart : due) {
+            flushPart(duePart);
+        }
+    }
+    
+    /**
+     * Start the next part; the finished one is flushed and released (by the caller, or when its last test ends)
+     * Called under the lock - a part that is already complete is added to due instead of being flushed here
+     */
+    private static void rollOver(List<ReportPart> due) {
+        ReportPart finished = current;
+        String path = reportBase + "_part" + (partPaths.size() + 1) + ".html";
+        current = new ReportPart(createReports(path));
+        partPaths.add(path);
+        if (finished.finished == finished.started && !due.contains(finished)) {
+            due.add(finished);
+        }
+        writeIndex();
+    }
+    
+    /**
+     * Flush of one part, outside the global lock - the screenshots it references must be on disk first,
+     * and two workers flushing the same part take turns on the part itself
+     */
+    private static void flushPart(ReportPart part) {
+        ScreenshotWriter.awaitPending();
+        synchronized (part) {
+            part.extent.flush();
+        }
+    }
+    
+    /**
+     * Index page linking every report part - reportPath points here once the report has several parts
+     */
+    private static void writeIndex() {
+        StringBuilder html = new StringBuilder("<!DOCTYPE html><html><head><meta charset='utf-8'>"
+                + "<title>Cucumber Test Automation Report</title></head><body><h2>Test Execution Report</h2><ul>");
+        for (int i = 0; i < partPaths.size(); i++) {
+            String name = new File(partPaths.get(i)).getName();
+            html.append("<li><a href='").append(name).append("'>Part ").append(i + 1).append(" - ").append(name).append("</a></li>");
+        }
+        html.append("</ul></body></html>");
+        String indexPath = reportBase + "_index.html";
+        try {
+            FileUtils.writeStringToFile(new File(indexPath), html.toString(), StandardCharsets.UTF_8);
+            reportPath = indexPath;
+        } catch (IOException e) {
+            System.err.println("Failed to write report index: " + e.getMessage());
+        }
     }
     
     /**
@@ -81,14 +198,7 @@ public class ExtentReportManager extends WebDriverConfig {
      * Log PASS with message and screenshot
      */
     public static void logPassWithScreenshot(String message) {
-        if (getTest() != null) {
-            String screenshotPath = captureScreenshot("PASS");
-            if (screenshotPath != null) {
-                getTest().log(Status.PASS, message, MediaEntityBuilder.createScreenCaptureFromPath(screenshotPath).build());
-            } else {
-                getTest().log(Status.PASS, message);
-            }
-        }
+        logWithScreenshot(Status.PASS, message);
     }
     
     /**
@@ -104,14 +214,7 @@ public class ExtentReportManager extends WebDriverConfig {
      * Log FAIL with message and screenshot
      */
     public static void logFailWithScreenshot(String message) {
-        if (getTest() != null) {
-            String screenshotPath = captureScreenshot("FAIL");
-            if (screenshotPath != null) {
-                getTest().log(Status.FAIL, message, MediaEntityBuilder.createScreenCaptureFromPath(screenshotPath).build());
-            } else {
-                getTest().log(Status.FAIL, message);
-            }
-        }
+        logWithScreenshot(Status.FAIL, message);
     }
     
     /**
@@ -127,14 +230,7 @@ public class ExtentReportManager extends WebDriverConfig {
      * Log INFO with message and screenshot
      */
     public static void logInfoWithScreenshot(String message) {
-        if (getTest() != null) {
-            String screenshotPath = captureScreenshot("INFO");
-            if (screenshotPath != null) {
-                getTest().log(Status.INFO, message, MediaEntityBuilder.createScreenCaptureFromPath(screenshotPath).build());
-            } else {
-                getTest().log(Status.INFO, message);
-            }
-        }
+        logWithScreenshot(Status.INFO, message);
     }
     
     /**
@@ -156,28 +252,83 @@ public class ExtentReportManager extends WebDriverConfig {
     }
     
     /**
-     * Capture screenshot and return the relative path
+     * Log with a screenshot when ScreenshotPolicy allows it, otherwise log the message alone
      */
-    private static String captureScreenshot(String status) {
-        try {
-            WebDriver driver = getDriver();
-            if (driver != null) {
-                TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-                byte[] screenshot = takesScreenshot.getScreenshotAs(OutputType.BYTES);
-                
-                String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss-SSS").format(new Date());
-                String fileName = status + "_" + timestamp + ".png";
-                String fullPath = screenshotDir + fileName;
-                
-                FileUtils.writeByteArrayToFile(new File(fullPath), screenshot);
-                
-                // Return relative path for the report
-                return "./Screenshots/" + fileName;
+    private static void logWithScreenshot(Status status, String message) {
+        if (getTest() == null) {
+            return;
+        }
+        boolean failure = status == Status.FAIL;
+        ScreenshotPolicy.Decision decision = ScreenshotPolicy.decide(failure);
+        if (decision == ScreenshotPolicy.Decision.SKIP) {
+            getTest().log(status, message);
+            return;
+        }
+        
+        byte[] screenshot = failure ? FrameCapture.captureForFailure() : FrameCapture.capture();
+        if (screenshot == null) {
+            getTest().log(status, message);
+        } else if (decision == ScreenshotPolicy.Decision.BUFFER) {
+            ScreenshotPolicy.buffer(message, screenshot);
+            getTest().log(status, message);
+        } else {
+            if (failure) {
+                attachBufferedScreenshots();
             }
-        } catch (IOException e) {
-            System.err.println("Failed to capture screenshot: " + e.getMessage());
+            logScreenshot(status, message, screenshot);
         }
-        return null;
+    }
+    
+    /**
+     * Stored by content hash through ScreenshotStore; the file is written asynchronously and
+     * flushReport waits for it. With thumbnails on, the entry embeds the thumbnail linking to the
+     * full image instead of attaching the full image as media.
+     */
+    private static void logScreenshot(Status status, String message, byte[] screenshot) {
+        String path = ScreenshotStore.store(screenshot, screenshotDir);
+        if (ScreenshotStore.thumbnailsEnabled()) {
+            getTest().log(status, message + "<br/>" + ScreenshotStore.thumbnailLink(path));
+        } else {
+            getTest().log(status, message, MediaEntityBuilder.createScreenCaptureFromPath(path).build());
+        }
+    }
+    
+    /**
+     * Attach the captures held back by the last-k policy ahead of a failure
+     */
+    private static void attachBufferedScreenshots() {
+        for (ScreenshotPolicy.BufferedCapture capture : ScreenshotPolicy.drainBuffer()) {
+            logScreenshot(Status.INFO, "Before failure: " + capture.message(), capture.png());
+        }
+    }
+    
+    /**
+     * Write the page state at failure and the steps leading up to it, linked from the report
+     */
+    public static void attachDomSnapshots() {
+        if (getTest() == null) {
+            return;
+        }
+        List<DomSnapshotBuffer.StepMarker> steps = DomSnapshotBuffer.drain();
+        if (!steps.isEmpty()) {
+            long failedAt = System.currentTimeMillis();
+            StringBuilder trail = new StringBuilder("Steps before failure:");
+            for (DomSnapshotBuffer.StepMarker step : steps) {
+                trail.append(' ').append(step.label()).append(" (-").append(failedAt - step.timestamp()).append(" ms)");
+            }
+            getTest().log(Status.INFO, trail.toString());
+        }
+
+        DomSnapshotBuffer.Snapshot snapshot = DomSnapshotBuffer.capture("at failure");
+        if (snapshot == null) {
+            return;
+        }
+        String fileName = "dom_" + snapshot.timestamp() + "_" + Integer.toHexString(snapshot.html().hashCode()) + ".html";
+        File file = new File(screenshotDir + "dom/" + fileName);
+        byte[] html = snapshot.html().getBytes(StandardCharsets.UTF_8);
+        ScreenshotWriter.write(file, html);
+        getTest().log(Status.INFO, "Page state " + snapshot.label() + " (" + snapshot.url() + "): "
+                + "<a href='./Screenshots/dom/" + fileName + "' target='_blank'>open snapshot</a>");
     }
     
     /**
@@ -185,10 +336,11 @@ public class ExtentReportManager extends WebDriverConfig {
      */
     public static void captureScreenshotOnFailure(String scenarioName) {
         if (getTest() != null) {
-            String screenshotPath = captureScreenshot("FAILURE");
-            if (screenshotPath != null) {
-                getTest().log(Status.FAIL, "Screenshot captured on failure for: " + scenarioName, 
-                    MediaEntityBuilder.createScreenCaptureFromPath(screenshotPath).build());
+            ScreenshotPolicy.decide(true);
+            byte[] screenshot = FrameCapture.captureForFailure();
+            if (screenshot != null) {
+                attachBufferedScreenshots();
+                logScreenshot(Status.FAIL, "Screenshot captured on failure for: " + scenarioName, screenshot);
             }
         }
     }
@@ -197,8 +349,12 @@ public class ExtentReportManager extends WebDriverConfig {
      * Flush the report
      */
     public static void flushReport() {
-        if (extent != null) {
-            extent.flush();
+        ReportPart part;
+        synchronized (lock) {
+            part = current;
+        }
+        if (part != null) {
+            flushPart(part);
         }
     }
     
@@ -214,5 +370,6 @@ public class ExtentReportManager extends WebDriverConfig {
      */
     public static void removeTest() {
         test.remove();
+        testPart.remove();
     }
 }
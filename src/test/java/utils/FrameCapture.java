@@ -0,0 +1,81 @@
+package utils;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FrameCapture - Takes screenshots from the current driver and shares one failure frame between sinks
+ * Page objects also log soft failures with a screenshot and carry on driving the browser, so a failure
+ * capture is only memoized after the hooks call holdFailureFrame() for a failed scenario. From then on
+ * nothing drives the browser any more, and every failure sink (StepLogger, ExtentReportManager, the
+ * Cucumber attachment, the disk store) reuses the first frame until newStep(). Outside that window, and
+ * for non-failure captures, every capture is taken fresh.
+ */
+public class FrameCapture {
+
+    private static final ThreadLocal<byte[]> failureFrame = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> holding = ThreadLocal.withInitial(() -> false);
+    private static final AtomicLong captures = new AtomicLong();
+    private static final AtomicLong reused = new AtomicLong();
+
+    /**
+     * Fresh screenshot, or null when there is no driver or the capture fails
+     */
+    public static byte[] capture() {
+        try {
+            WebDriver driver = WebDriverConfig.getDriver();
+            if (driver != null) {
+                long start = System.nanoTime();
+                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+                ScreenshotPolicy.recordCapture(System.nanoTime() - start);
+                captures.incrementAndGet();
+                return screenshot;
+            }
+        } catch (WebDriverException e) {
+            System.err.println("Failed to capture screenshot: " + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Screenshot for a failure sink - shared between sinks while the failure frame is held, fresh otherwise
+     */
+    public static byte[] captureForFailure() {
+        if (!holding.get()) {
+            return capture();
+        }
+        byte[] frame = failureFrame.get();
+        if (frame != null) {
+            reused.incrementAndGet();
+            return frame;
+        }
+        frame = capture();
+        if (frame != null) {
+            failureFrame.set(frame);
+        }
+        return frame;
+    }
+
+    /**
+     * Start sharing one failure frame - called by the hooks once the scenario has failed
+     */
+    public static void holdFailureFrame() {
+        holding.set(true);
+    }
+
+    /**
+     * Drop the memoized failure frame and stop sharing - called before every step and scenario and at teardown
+     */
+    public static void newStep() {
+        failureFrame.remove();
+        holding.remove();
+    }
+
+    public static String getStats() {
+        return captures.get() + " taken, " + reused.get() + " failure captures reused";
+    }
+}
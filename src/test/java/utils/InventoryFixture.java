@@ -0,0 +1,112 @@
+package utils;
+
+import io.cucumber.datatable.DataTable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * InventoryFixture - Inventory set up by a Given/Background table, built once per run and shared read-only
+ * Scenarios that repeat the same "| SKU | Current Quantity | Location |" table get the same immutable
+ * fixture (cached by table content and quantity column) instead of re-parsing it and rebuilding the
+ * inventory and metadata maps. Each scenario works on its own InventoryView - a copy-on-write layer that
+ * only stores what the scenario changes - so fixtures are safe to share between parallel workers.
+ * Usage: dataManager.useInventory(InventoryFixture.of(dataTable, "Current Quantity"))
+ */
+public final class InventoryFixture {
+
+    private static final Map<List<Object>, InventoryFixture> fixtures = new ConcurrentHashMap<>();
+    private static final AtomicLong requests = new AtomicLong();
+
+    private final Map<String, Integer> quantities;
+    private final Map<String, String> locations;
+    private final Map<String, Object> metadata;
+
+    private InventoryFixture(Map<String, Integer> quantities, Map<String, String> locations, Map<String, Object> metadata) {
+        this.quantities = Collections.unmodifiableMap(quantities);
+        this.locations = Collections.unmodifiableMap(locations);
+        this.metadata = Collections.unmodifiableMap(metadata);
+    }
+
+    /**
+     * Fixture for an | SKU | <quantity column> | Location | table - built on first use, shared afterwards
+     * Besides the quantities it carries the metadata the steps used to add per scenario:
+     * location_<SKU> and, for the "System Quantity" column, system_qty_<SKU>.
+     */
+    public static InventoryFixture of(DataTable table, String quantityColumn) {
+        requests.incrementAndGet();
+        List<Object> key = List.of(quantityColumn, table.cells());
+        return fixtures.computeIfAbsent(key, k -> build(table, quantityColumn));
+    }
+
+    private record Line(String sku, int quantity, String location) {
+    }
+
+    private static InventoryFixture build(DataTable table, String quantityColumn) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        Map<String, String> locations = new LinkedHashMap<>();
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        boolean systemQuantities = "System Quantity".equalsIgnoreCase(quantityColumn);
+        TableRows<Line> lines = TableRows.of(table, header -> {
+            int sku = header.column("SKU");
+            int quantity = header.column(quantityColumn);
+            int location = header.optionalColumn("Location");
+            return cells -> new Line(TableRows.cell(cells, sku), TableRows.intCell(cells, quantity), TableRows.cell(cells, location));
+        });
+        for (Line line : lines) {
+            // Same SKU twice in a table adds up, like repeated updateInventory calls did
+            quantities.merge(line.sku(), line.quantity(), Integer::sum);
+            if (line.location() != null) {
+                locations.put(line.sku(), line.location());
+                metadata.put("location_" + line.sku(), line.location());
+            }
+            if (systemQuantities) {
+                metadata.put("system_qty_" + line.sku(), line.quantity());
+            }
+        }
+        return new InventoryFixture(quantities, locations, metadata);
+    }
+
+    /**
+     * Fresh copy-on-write view for one scenario - SKUs the fixture does not list are read from fallbackLevels
+     */
+    public InventoryView newView(Map<String, Integer> fallbackLevels) {
+        return new InventoryView(this, fallbackLevels);
+    }
+
+    public int size() {
+        return quantities.size();
+    }
+
+    public Integer quantity(String sku) {
+        return quantities.get(sku);
+    }
+
+    public String location(String sku) {
+        return locations.get(sku);
+    }
+
+    Map<String, Integer> quantities() {
+        return quantities;
+    }
+
+    Map<String, Object> metadata() {
+        return metadata;
+    }
+
+    public void forEach(BiConsumer<String, Integer> action) {
+        quantities.forEach(action);
+    }
+
+    /**
+     * e.g. "2 fixtures built for 40 requests"
+     */
+    public static String getStats() {
+        return fixtures.size() + " fixtures built for " + requests.get() + " requests";
+    }
+}
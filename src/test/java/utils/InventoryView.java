@@ -0,0 +1,89 @@
+package utils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * InventoryView - One scenario's inventory on top of a shared, immutable InventoryFixture
+ * Reads fall through to the shared fixture and then to the global levels (seeded data, earlier
+ * updateInventory calls); inventory changes and metadata written by the scenario go into small private
+ * maps, so creating a view costs nothing however large the fixture is. The global levels are only read,
+ * never written; other threads may update them, so they must be a synchronized map and are copied under its lock. A view belongs to one scenario thread and is dropped when the scenario ends
+ * (WarehouseDataManager.endScenario()).
+ */
+public final class InventoryView {
+
+    private final InventoryFixture base;
+    private final Map<String, Integer> fallbackLevels;
+    private final Map<String, Integer> changedQuantities = new HashMap<>();
+    private final Map<String, Object> changedMetadata = new HashMap<>();
+
+    InventoryView(InventoryFixture base, Map<String, Integer> fallbackLevels) {
+        this.base = base;
+        this.fallbackLevels = fallbackLevels;
+    }
+
+    /**
+     * Apply a second fixture in the same scenario - its quantities add to this view's, like updateInventory
+     */
+    void add(InventoryFixture fixture) {
+        fixture.forEach(this::adjust);
+        changedMetadata.putAll(fixture.metadata());
+    }
+
+    public int quantity(String sku) {
+        Integer changed = changedQuantities.get(sku);
+        if (changed != null) {
+            return changed;
+        }
+        Integer quantity = base.quantity(sku);
+        return quantity != null ? quantity : fallbackLevels.getOrDefault(sku, 0);
+    }
+
+    /**
+     * Add to the SKU's quantity (negative to remove) - copies only this SKU, returns the new level
+     */
+    public int adjust(String sku, int delta) {
+        int quantity = quantity(sku) + delta;
+        changedQuantities.put(sku, quantity);
+        return quantity;
+    }
+
+    public boolean contains(String sku) {
+        return changedQuantities.containsKey(sku) || base.quantity(sku) != null || fallbackLevels.containsKey(sku);
+    }
+
+    /**
+     * Every SKU and its current level - materialized on request, global levels first, then the fixture's
+     */
+    public Map<String, Integer> quantities() {
+        Map<String, Integer> all;
+        synchronized (fallbackLevels) {
+            all = new LinkedHashMap<>(fallbackLevels);
+        }
+        all.putAll(base.quantities());
+        all.putAll(changedQuantities);
+        return all;
+    }
+
+    public Object metadata(String key) {
+        if (changedMetadata.containsKey(key)) {
+            return changedMetadata.get(key);
+        }
+        return base.metadata().get(key);
+    }
+
+    public void putMetadata(String key, Object value) {
+        changedMetadata.put(key, value);
+    }
+
+    /**
+     * The fixture's metadata with this scenario's writes on top - what exportAllData reports
+     */
+    public Map<String, Object> allMetadata() {
+        Map<String, Object> all = new LinkedHashMap<>(base.metadata());
+        all.putAll(changedMetadata);
+        return all;
+    }
+}
@@ -0,0 +1,237 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * LazyElement - WebElement assigned by the generated page bindings (see binding.PageBindingProcessor)
+ * Locates the element on first use, reuses the reference afterwards and re-resolves once on staleness.
+ * Equality delegates to the resolved element, so a LazyElement compares equal to the element it wraps.
+ */
+public class LazyElement implements WebElement, WrapsElement, Locatable {
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong staleRecoveries = new AtomicLong();
+
+    private final SearchContext context;
+    private final By by;
+    private final String description;
+    private volatile WebElement cachedElement;
+
+    public LazyElement(SearchContext context, By by, String description) {
+        this.context = context;
+        this.by = by;
+        this.description = description;
+    }
+
+    /**
+     * Get cache counters for the run
+     */
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static long getStaleRecoveries() {
+        return staleRecoveries.get();
+    }
+
+    /**
+     * One-line summary, e.g. "hits=120, misses=14, stale=2" - hits are round trips saved
+     */
+    public static String getStats() {
+        return "hits=" + hits.get() + ", misses=" + misses.get() + ", stale=" + staleRecoveries.get();
+    }
+
+    public static void resetStats() {
+        hits.set(0);
+        misses.set(0);
+        staleRecoveries.set(0);
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        WebElement element = cachedElement;
+        if (element != null) {
+            hits.incrementAndGet();
+            return element;
+        }
+        misses.incrementAndGet();
+        element = context.findElement(by);
+        cachedElement = element;
+        return element;
+    }
+
+    private <T> T call(Function<WebElement, T> action) {
+        try {
+            return action.apply(getWrappedElement());
+        } catch (StaleElementReferenceException e) {
+            staleRecoveries.incrementAndGet();
+            cachedElement = null;
+            return action.apply(getWrappedElement());
+        }
+    }
+
+    private void run(Consumer<WebElement> action) {
+        call(element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
+    @Override
+    public void click() {
+        run(WebElement::click);
+    }
+
+    @Override
+    public void submit() {
+        run(WebElement::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        run(element -> element.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        run(WebElement::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(element -> element.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(element -> element.getDomAttribute(name));
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public String getAttribute(String name) {
+        return call(element -> element.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By locator) {
+        return call(element -> element.findElements(locator));
+    }
+
+    @Override
+    public WebElement findElement(By locator) {
+        return call(element -> element.findElement(locator));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(element -> element.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        return call(element -> element.getScreenshotAs(target));
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return call(element -> ((Locatable) element).getCoordinates());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof WrapsElement wrapper) {
+            other = wrapper.getWrappedElement();
+        }
+        return other instanceof WebElement && getWrappedElement().equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return getWrappedElement().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy element " + description + " (" + by + ")";
+    }
+}
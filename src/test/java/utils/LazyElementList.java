@@ -0,0 +1,50 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * LazyElementList - List&lt;WebElement&gt; assigned by the generated page bindings
+ * Every access locates the elements again, same as a PageFactory list field without @CacheLookup.
+ */
+public class LazyElementList extends AbstractList<WebElement> {
+
+    private final SearchContext context;
+    private final By by;
+    private final String description;
+
+    public LazyElementList(SearchContext context, By by, String description) {
+        this.context = context;
+        this.by = by;
+        this.description = description;
+    }
+
+    private List<WebElement> elements() {
+        return context.findElements(by);
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return elements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return elements().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy element list " + description + " (" + by + ")";
+    }
+}
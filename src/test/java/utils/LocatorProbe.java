@@ -0,0 +1,140 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LocatorProbe - Tries several locator strategies for one element in a single script call
+ * Candidates are evaluated in the browser in order and the first match is returned, so trying the
+ * next candidate costs no NoSuchElementException. When nothing matches, the probe is repeated until the
+ * driver's implicit wait runs out, so steps that run during page load still wait like findElement did.
+ * The winning candidate is remembered per page path and tried first the next time the probe runs on that page.
+ * Usage: WebElement button = LocatorProbe.named("login button").id("login").id("submit").xpath("//input[@type='submit']").find(getDriver());
+ */
+public class LocatorProbe {
+
+    private static final String PROBE_SCRIPT =
+            "var candidates = arguments[0], winners = arguments[1];" +
+            "var page = location.host + location.pathname;" +
+            "var order = [];" +
+            "if (winners.hasOwnProperty(page) && winners[page] < candidates.length) { order.push(winners[page]); }" +
+            "for (var i = 0; i < candidates.length; i++) { if (order[0] !== i) { order.push(i); } }" +
+            "for (var k = 0; k < order.length; k++) {" +
+            "  var c = candidates[order[k]], el = null;" +
+            "  try {" +
+            "    switch (c[0]) {" +
+            "      case 'id': el = document.getElementById(c[1]); break;" +
+            "      case 'name': el = document.getElementsByName(c[1])[0] || null; break;" +
+            "      case 'className': el = document.getElementsByClassName(c[1])[0] || null; break;" +
+            "      case 'css': el = document.querySelector(c[1]); break;" +
+            "      case 'xpath': el = document.evaluate(c[1], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue; break;" +
+            "    }" +
+            "  } catch (e) { el = null; }" +
+            "  if (el) { return [order[k], el, page]; }" +
+            "}" +
+            "return [-1, null, page];";
+
+    // probe name -> (page path -> index of the winning candidate)
+    private static final Map<String, Map<String, Integer>> winners = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final List<List<String>> candidates = new ArrayList<>();
+
+    private LocatorProbe(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Start a probe - the name keys the remembered winners, so use one name per logical element
+     */
+    public static LocatorProbe named(String name) {
+        return new LocatorProbe(name);
+    }
+
+    public LocatorProbe id(String id) {
+        return candidate("id", id);
+    }
+
+    public LocatorProbe name(String elementName) {
+        return candidate("name", elementName);
+    }
+
+    public LocatorProbe className(String className) {
+        return candidate("className", className);
+    }
+
+    public LocatorProbe css(String selector) {
+        return candidate("css", selector);
+    }
+
+    public LocatorProbe xpath(String xpath) {
+        return candidate("xpath", xpath);
+    }
+
+    private LocatorProbe candidate(String strategy, String value) {
+        candidates.add(List.of(strategy, value));
+        return this;
+    }
+
+    /**
+     * Find the first matching element, or null when no candidate matches within the driver's implicit wait
+     */
+    public WebElement find(WebDriver driver) {
+        WebElement element = probe(driver);
+        if (element != null) {
+            return element;
+        }
+
+        Duration implicitWait = driver.manage().timeouts().getImplicitWaitTimeout();
+        if (implicitWait.isZero() || implicitWait.isNegative()) {
+            return null;
+        }
+        try {
+            return new WebDriverWait(driver, implicitWait).until(this::probe);
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Quote a value for use inside an XPath expression - values holding both quote kinds are split with concat()
+     */
+    public static String xpathLiteral(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "', \"'\", '") + "')";
+    }
+
+    private WebElement probe(WebDriver driver) {
+        Map<String, Integer> pageWinners = winners.computeIfAbsent(name, key -> new ConcurrentHashMap<>());
+        Object result = ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT, candidates, pageWinners);
+        if (!(result instanceof List<?> values) || values.size() < 3) {
+            return null;
+        }
+
+        int index = ((Number) values.get(0)).intValue();
+        if (index < 0) {
+            return null;
+        }
+        pageWinners.put(String.valueOf(values.get(2)), index);
+        return (WebElement) values.get(1);
+    }
+
+    @Override
+    public String toString() {
+        return "LocatorProbe " + name + " " + candidates;
+    }
+}
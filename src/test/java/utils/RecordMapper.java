@@ -0,0 +1,105 @@
+package utils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RecordMapper - Maps test-data rows onto a record type, one constructor call per row
+ * Record components are matched to headers once per sheet, ignoring case, spaces, dots and underscores
+ * ("S.No" -> sno, "Unit Price" -> unitPrice). Supported component types: String, int, long, double,
+ * boolean and their wrappers; numbers stored as "12.0" convert to int/long.
+ */
+public final class RecordMapper<R extends Record> {
+
+    private static final Map<Class<?>, RecordMapper<?>> mappers = new ConcurrentHashMap<>();
+
+    private final SheetData sheet;
+    private final Constructor<R> constructor;
+    private final Class<?>[] types;
+    private final int[] columns;
+
+    private RecordMapper(Class<R> type, SheetData sheet) {
+        this.sheet = sheet;
+        RecordComponent[] components = type.getRecordComponents();
+        this.types = new Class<?>[components.length];
+        this.columns = new int[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+            columns[i] = findColumn(sheet, components[i].getName());
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException("No column for " + type.getSimpleName() + "." + components[i].getName()
+                        + " in sheet " + sheet.getName() + " " + sheet.getHeaders());
+            }
+        }
+        try {
+            this.constructor = type.getDeclaredConstructor(types);
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Record " + type.getName() + " has no canonical constructor", e);
+        }
+    }
+
+    /**
+     * Mapper for the record type on this sheet - reused until the sheet is reloaded
+     */
+    @SuppressWarnings("unchecked")
+    public static <R extends Record> RecordMapper<R> of(Class<R> type, SheetData sheet) {
+        RecordMapper<R> mapper = (RecordMapper<R>) mappers.get(type);
+        if (mapper == null || mapper.sheet != sheet) {
+            mapper = new RecordMapper<>(type, sheet);
+            mappers.put(type, mapper);
+        }
+        return mapper;
+    }
+
+    public R map(int row) {
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            args[i] = convert(sheet.cell(row, columns[i]), types[i]);
+        }
+        try {
+            return constructor.newInstance(args);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create " + constructor.getDeclaringClass().getSimpleName()
+                    + " from row " + row + " of " + sheet.getName(), e);
+        }
+    }
+
+    private static int findColumn(SheetData sheet, String component) {
+        String wanted = normalize(component);
+        for (int i = 0; i < sheet.getHeaders().size(); i++) {
+            if (normalize(sheet.getHeaders().get(i)).equals(wanted)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String normalize(String name) {
+        return name.replaceAll("[\\s._-]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static Object convert(String value, Class<?> type) {
+        if (type == String.class) {
+            return value;
+        }
+        boolean blank = value == null || value.isBlank();
+        if (type == int.class || type == Integer.class) {
+            return blank ? (type == int.class ? 0 : null) : (int) Double.parseDouble(value);
+        }
+        if (type == long.class || type == Long.class) {
+            return blank ? (type == long.class ? 0L : null) : (long) Double.parseDouble(value);
+        }
+        if (type == double.class || type == Double.class) {
+            return blank ? (type == double.class ? 0.0 : null) : Double.parseDouble(value);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return blank ? (type == boolean.class ? false : null) : Boolean.parseBoolean(value);
+        }
+        throw new IllegalArgumentException("Unsupported record component type " + type.getName());
+    }
+}
@@ -0,0 +1,134 @@
+package utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * ScreenshotPolicy - Decides whether a "with screenshot" log call actually captures
+ * Failure captures are always taken. Everything else follows screenshot.policy in extent.properties:
+ *   always    - capture every time (previous behaviour)
+ *   failures  - capture only for failures
+ *   every-nth - capture every screenshot.policy.n-th non-failure request of a scenario
+ *   tags      - capture only in scenarios tagged with one of screenshot.policy.tags (e.g. @Smoke)
+ *   last-k    - keep the last screenshot.policy.k captures in memory and attach them only when a failure follows
+ * A skipped capture costs a single branch. getStats() reports how many captures were skipped and the time saved.
+ * last-k is a report-size option only: the earlier page states cannot be captured after the fact, so every
+ * request is still captured and none count as skipped. Captures dropped from the buffer are reported separately.
+ */
+public class ScreenshotPolicy {
+
+    public enum Mode {
+        ALWAYS, FAILURES, EVERY_NTH, TAGS, LAST_K
+    }
+
+    public enum Decision {
+        SKIP, CAPTURE, BUFFER
+    }
+
+    /**
+     * Capture held back by last-k until a failure shows it is worth keeping
+     */
+    public record BufferedCapture(String message, byte[] png) {
+    }
+
+    private static final Mode MODE = Mode.valueOf(ExtentProperties.get("screenshot.policy", "always").toUpperCase().replace('-', '_'));
+    private static final int N = Math.max(1, ExtentProperties.getInt("screenshot.policy.n", 5));
+    private static final int K = Math.max(1, ExtentProperties.getInt("screenshot.policy.k", 3));
+    private static final Set<String> TAGS = Arrays.stream(ExtentProperties.get("screenshot.policy.tags", "@Smoke").split(","))
+            .map(String::trim)
+            .filter(tag -> !tag.isEmpty())
+            .collect(Collectors.toSet());
+
+    private static final ThreadLocal<ScenarioState> state = ThreadLocal.withInitial(ScenarioState::new);
+
+    private static final AtomicLong requested = new AtomicLong();
+    private static final AtomicLong skipped = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static final AtomicLong captured = new AtomicLong();
+    private static final AtomicLong captureNanos = new AtomicLong();
+
+    /**
+     * Reset per-scenario state - called from the @Before hook with the scenario tags
+     */
+    public static void startScenario(Collection<String> tags) {
+        ScenarioState current = state.get();
+        current.requests = 0;
+        dropped.addAndGet(current.buffer.size());
+        current.buffer.clear();
+        current.tagged = tags.stream().anyMatch(TAGS::contains);
+    }
+
+    public static Decision decide(boolean failure) {
+        requested.incrementAndGet();
+        if (failure || MODE == Mode.ALWAYS) {
+            return Decision.CAPTURE;
+        }
+        Decision decision = switch (MODE) {
+            case EVERY_NTH -> ++state.get().requests % N == 0 ? Decision.CAPTURE : Decision.SKIP;
+            case TAGS -> state.get().tagged ? Decision.CAPTURE : Decision.SKIP;
+            case LAST_K -> Decision.BUFFER;
+            default -> Decision.SKIP;
+        };
+        if (decision == Decision.SKIP) {
+            skipped.incrementAndGet();
+        }
+        return decision;
+    }
+
+    /**
+     * Record how long a capture took - used to estimate the time saved by skipped captures
+     */
+    public static void recordCapture(long nanos) {
+        captured.incrementAndGet();
+        captureNanos.addAndGet(nanos);
+    }
+
+    public static void buffer(String message, byte[] png) {
+        Deque<BufferedCapture> buffer = state.get().buffer;
+        if (buffer.size() == K) {
+            buffer.removeFirst();
+            dropped.incrementAndGet();
+        }
+        buffer.addLast(new BufferedCapture(message, png));
+    }
+
+    /**
+     * Captures held for the current scenario, oldest first - the buffer is emptied
+     */
+    public static List<BufferedCapture> drainBuffer() {
+        Deque<BufferedCapture> buffer = state.get().buffer;
+        List<BufferedCapture> captures = new ArrayList<>(buffer);
+        buffer.clear();
+        return captures;
+    }
+
+    public static Mode getMode() {
+        return MODE;
+    }
+
+    public static String getStats() {
+        long count = captured.get();
+        double averageMillis = count == 0 ? 0 : captureNanos.get() / 1_000_000.0 / count;
+        String stats = String.format("policy=%s, %d requested, %d captured, %d skipped (~%.1f s saved at %.0f ms/capture)",
+                MODE.name().toLowerCase().replace('_', '-'), requested.get(), count, skipped.get(),
+                skipped.get() * averageMillis / 1000.0, averageMillis);
+        if (MODE == Mode.LAST_K) {
+            // Dropped captures shrink the report but were still taken
+            stats += ", " + dropped.get() + " buffered captures not attached";
+        }
+        return stats;
+    }
+
+    private static final class ScenarioState {
+        private final Deque<BufferedCapture> buffer = new ArrayDeque<>();
+        private int requests;
+        private boolean tagged;
+    }
+}
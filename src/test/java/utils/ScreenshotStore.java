@@ -0,0 +1,172 @@
+package utils;
+
+import org.apache.commons.io.FileUtils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScreenshotStore - Content-addressed screenshot storage for the Extent report
+ * Each capture is named by the SHA-1 of its PNG bytes, so identical screenshots (repeated captures of an
+ * unchanged page) are written once and referenced many times. New images are re-encoded on the writer
+ * threads (JPEG by default) and optionally get a downscaled thumbnail, which the report shows inside a
+ * link to the full image (see thumbnailLink).
+ * Configured in extent.properties:
+ *   screenshot.store.format=jpg|png
+ *   screenshot.store.quality=0.75
+ *   screenshot.store.thumbnail.width=0 (0 = no thumbnails)
+ */
+public class ScreenshotStore {
+
+    private static final String FORMAT = ExtentProperties.get("screenshot.store.format", "jpg").toLowerCase();
+    private static final float QUALITY = ExtentProperties.getFloat("screenshot.store.quality", 0.75f);
+    private static final int THUMBNAIL_WIDTH = ExtentProperties.getInt("screenshot.store.thumbnail.width", 0);
+
+    private static final Set<String> storedHashes = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong captures = new AtomicLong();
+    private static final AtomicLong duplicates = new AtomicLong();
+    private static final AtomicLong reused = new AtomicLong();
+    private static final AtomicLong rawBytes = new AtomicLong();
+    private static final AtomicLong reusedRawBytes = new AtomicLong();
+    private static final AtomicLong writtenBytes = new AtomicLong();
+
+    /**
+     * Store a PNG capture and return the full image's path relative to the report (e.g. ./Screenshots/ab12....jpg)
+     * The path is valid immediately; the file itself is written by ScreenshotWriter.
+     */
+    public static String store(byte[] png, String screenshotDir) {
+        captures.incrementAndGet();
+        rawBytes.addAndGet(png.length);
+
+        String hash = sha1(png);
+        String extension = "png".equals(FORMAT) ? "png" : "jpg";
+        String fileName = hash + "." + extension;
+
+        if (!storedHashes.add(hash)) {
+            duplicates.incrementAndGet();
+        } else {
+            ScreenshotWriter.execute(() -> persist(hash, png, new File(screenshotDir, fileName), new File(screenshotDir, thumbnailName(hash))));
+        }
+        return "./Screenshots/" + fileName;
+    }
+
+    /**
+     * True when screenshot.store.thumbnail.width is set and the report should embed thumbnails
+     */
+    public static boolean thumbnailsEnabled() {
+        return THUMBNAIL_WIDTH > 0;
+    }
+
+    /**
+     * Report markup for a stored capture - the thumbnail, linking to the full image
+     */
+    public static String thumbnailLink(String path) {
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        String thumbnail = "./Screenshots/" + thumbnailName(name.substring(0, name.lastIndexOf('.')));
+        return "<a href='" + path + "' target='_blank'><img src='" + thumbnail + "' alt='screenshot'/></a>";
+    }
+
+    private static String thumbnailName(String hash) {
+        return hash + "_thumb.jpg";
+    }
+
+    private static void persist(String hash, byte[] png, File file, File thumbnail) {
+        try {
+            if (file.exists()) {
+                // Same content from an earlier run is already on disk - not a saving of this run
+                reused.incrementAndGet();
+                reusedRawBytes.addAndGet(png.length);
+            } else {
+                byte[] encoded = "png".equals(FORMAT) ? png : encodeJpeg(decode(png), QUALITY);
+                FileUtils.writeByteArrayToFile(file, encoded);
+                writtenBytes.addAndGet(encoded.length);
+            }
+            if (THUMBNAIL_WIDTH > 0 && !thumbnail.exists()) {
+                byte[] encoded = encodeJpeg(downscale(decode(png), THUMBNAIL_WIDTH), QUALITY);
+                FileUtils.writeByteArrayToFile(thumbnail, encoded);
+                writtenBytes.addAndGet(encoded.length);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Forget the hash so the next identical capture tries again
+            storedHashes.remove(hash);
+            System.err.println("Failed to store screenshot " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static BufferedImage decode(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("no image reader for capture data");
+        }
+        return image;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage source, float quality) throws IOException {
+        // JPEG has no alpha channel - draw onto an RGB canvas first
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static BufferedImage downscale(BufferedImage source, int width) {
+        if (source.getWidth() <= width) {
+            return source;
+        }
+        int height = Math.max(1, source.getHeight() * width / source.getWidth());
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        return scaled;
+    }
+
+    private static String sha1(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+
+    /**
+     * Run summary - call after ScreenshotWriter.awaitPending() so written bytes are final
+     */
+    public static String getStats() {
+        // Files reused from an earlier run are left out, so "saved" covers only writes avoided in this run
+        long raw = rawBytes.get() - reusedRawBytes.get();
+        long written = writtenBytes.get();
+        return String.format("%d captured, %d duplicates, %d reused from earlier runs, %.1f MB raw -> %.1f MB written (%.1f MB saved)",
+                captures.get(), duplicates.get(), reused.get(), raw / 1048576.0, written / 1048576.0, (raw - written) / 1048576.0);
+    }
+}
@@ -0,0 +1,98 @@
+package utils;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ScreenshotWriter - Writes captured screenshots to disk off the scenario thread
+ * Writes go through a bounded queue to a small pool of daemon writer threads. When the queue is full
+ * the calling thread writes the file itself, so memory stays bounded instead of queueing without limit.
+ * awaitPending() blocks until every queued file is on disk and is called before the report is flushed.
+ */
+public class ScreenshotWriter {
+
+    private static final int WRITER_THREADS = 2;
+    private static final int QUEUE_CAPACITY = 32;
+
+    private static final Object lock = new Object();
+    private static int pending;
+
+    private static final ThreadPoolExecutor executor = createExecutor();
+
+    private static ThreadPoolExecutor createExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                WRITER_THREADS, WRITER_THREADS, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Queue the bytes for writing - returns immediately unless the queue is full
+     */
+    public static void write(File file, byte[] data) {
+        execute(() -> {
+            try {
+                FileUtils.writeByteArrayToFile(file, data);
+            } catch (IOException e) {
+                System.err.println("Failed to write screenshot " + file + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Queue any screenshot persistence work (encoding, several files) - tracked by awaitPending()
+     */
+    public static void execute(Runnable task) {
+        synchronized (lock) {
+            pending++;
+        }
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.err.println("Screenshot write task failed: " + e.getMessage());
+            } finally {
+                synchronized (lock) {
+                    pending--;
+                    lock.notifyAll();
+                }
+            }
+        });
+    }
+
+    /**
+     * Block until every queued screenshot has been written
+     */
+    public static void awaitPending() {
+        synchronized (lock) {
+            while (pending > 0) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public static int getPendingCount() {
+        synchronized (lock) {
+            return pending;
+        }
+    }
+}
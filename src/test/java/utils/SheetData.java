@@ -0,0 +1,40 @@
+package utils;
+
+import java.util.List;
+
+/**
+ * SheetData - Read-only view of one test-data sheet, indexed by header and serial number (first column)
+ * Implemented by SheetIndex (parsed from the xlsx) and CompiledWorkbook's memory-mapped sheets.
+ * Rows and columns are 0-based positions among the data rows / header cells.
+ */
+public interface SheetData {
+
+    String getName();
+
+    List<String> getHeaders();
+
+    int getRowCount();
+
+    /**
+     * Column of the first header matching case-insensitively, or -1
+     */
+    int columnOf(String header);
+
+    /**
+     * First data row with this serial number, or -1
+     */
+    int rowOf(double sno);
+
+    double serial(int row);
+
+    String cell(int row, int column);
+
+    default String value(int sno, String header) {
+        int column = columnOf(header);
+        int row = rowOf(sno);
+        if (column < 0 || row < 0) {
+            throw new IllegalArgumentException("Either column heading or row heading not found in the sheet");
+        }
+        return cell(row, column);
+    }
+}
@@ -0,0 +1,130 @@
+package utils;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * SheetIndex - One sheet of a test-data workbook, read once and indexed for O(1) lookups
+ * Header name (case-insensitive) -> column and serial number (first column) -> row are resolved when
+ * the sheet is loaded; cell values are kept as the strings readCell has always returned.
+ * Instances are immutable and safe to share between threads.
+ */
+public class SheetIndex implements SheetData {
+
+    private final String name;
+    private final List<String> headers;
+    private final Map<String, Integer> columns;
+    private final Map<Double, Integer> rows;
+    private final double[] serials;
+    private final String[][] values;
+
+    private SheetIndex(String name, List<String> headers, Map<String, Integer> columns, Map<Double, Integer> rows,
+                       double[] serials, String[][] values) {
+        this.name = name;
+        this.headers = headers;
+        this.columns = columns;
+        this.rows = rows;
+        this.serials = serials;
+        this.values = values;
+    }
+
+    public static SheetIndex of(Sheet sheet) {
+        List<String> headers = new ArrayList<>();
+        Map<String, Integer> columns = new HashMap<>();
+        Row headerRow = sheet.getRow(0);
+        if (headerRow != null) {
+            for (Cell cell : headerRow) {
+                while (headers.size() < cell.getColumnIndex()) {
+                    headers.add("");
+                }
+                String header = Objects.toString(cellValue(cell), "");
+                headers.add(header);
+                // First matching header wins, as in the original linear scan
+                columns.putIfAbsent(header.toLowerCase(Locale.ROOT), cell.getColumnIndex());
+            }
+        }
+
+        Map<Double, Integer> rows = new HashMap<>();
+        List<Double> serials = new ArrayList<>();
+        List<String[]> data = new ArrayList<>();
+        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+            Row row = sheet.getRow(i);
+            if (row == null) {
+                continue;
+            }
+            Cell serial = row.getCell(0);
+            if (serial == null || serial.getCellType() != CellType.NUMERIC) {
+                continue;
+            }
+            String[] rowValues = new String[headers.size()];
+            for (int col = 0; col < rowValues.length; col++) {
+                rowValues[col] = cellValue(row.getCell(col));
+            }
+            rows.putIfAbsent(serial.getNumericCellValue(), data.size());
+            serials.add(serial.getNumericCellValue());
+            data.add(rowValues);
+        }
+        return new SheetIndex(sheet.getSheetName(), Collections.unmodifiableList(headers), columns, rows,
+                serials.stream().mapToDouble(Double::doubleValue).toArray(), data.toArray(new String[0][]));
+    }
+
+    /**
+     * Same conversion readCell has always applied (numbers as doubles, formulas and blanks as null)
+     */
+    static String cellValue(Cell cell) {
+        if (cell == null) {
+            return null;
+        }
+        return switch (cell.getCellType()) {
+            case NUMERIC -> String.valueOf(cell.getNumericCellValue());
+            case STRING -> cell.getStringCellValue();
+            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
+            default -> null;
+        };
+    }
+
+    @Override
+    public int columnOf(String header) {
+        return columns.getOrDefault(header.toLowerCase(Locale.ROOT), -1);
+    }
+
+    @Override
+    public int rowOf(double sno) {
+        return rows.getOrDefault(sno, -1);
+    }
+
+    @Override
+    public double serial(int row) {
+        return serials[row];
+    }
+
+    @Override
+    public String cell(int row, int column) {
+        return values[row][column];
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public int getRowCount() {
+        return values.length;
+    }
+}
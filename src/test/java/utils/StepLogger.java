@@ -1,18 +1,72 @@
 package utils;
 
+import java.util.function.Supplier;
+
 /**
  * StepLogger - Easy-to-use logging utility for step definitions
  * Provides simple methods to log test steps with or without screenshots
+ * Two thresholds in extent.properties (debug | info | warning | error | off):
+ *   log.level filters the console and Result.log output, which goes through AsyncLogAppender
+ *   extent.log.level filters the Extent report entries, written on the calling thread - FAIL is always reported
+ * The Supplier overloads build the message only when one of the two needs it, so with both thresholds
+ * above a level its Supplier calls allocate nothing, inside a scenario as well.
  */
 public class StepLogger {
     
+    public enum Level {
+        DEBUG, INFO, WARNING, ERROR, OFF
+    }
+    
+    private static final Level LEVEL = Level.valueOf(ExtentProperties.get("log.level", "info").toUpperCase());
+    private static final Level EXTENT_LEVEL = Level.valueOf(ExtentProperties.get("extent.log.level", "info").toUpperCase());
+    
+    /**
+     * Whether console / Result.log output is on for this level
+     */
+    public static boolean isEnabled(Level level) {
+        return level != Level.OFF && level.compareTo(LEVEL) >= 0;
+    }
+    
+    /**
+     * Whether an entry of this level goes into the Extent report - only inside a scenario
+     */
+    public static boolean isReported(Level level) {
+        return ExtentReportManager.getTest() != null
+                && (level == Level.ERROR || (level != Level.OFF && level.compareTo(EXTENT_LEVEL) >= 0));
+    }
+    
+    private static boolean isNeeded(Level level) {
+        return isReported(level) || isEnabled(level);
+    }
+    
+    /**
+     * Wait for queued console / Result.log output - call before printing the run summary
+     */
+    public static void flush() {
+        AsyncLogAppender.flush();
+    }
+    
     /**
      * Log a PASS step with message
      * Usage: StepLogger.pass("User successfully logged in");
      */
     public static void pass(String message) {
-        ExtentReportManager.logPass("✅ " + message);
-        System.out.println("PASS: " + message);
+        if (isReported(Level.INFO)) {
+            ExtentReportManager.logPass("✅ " + message);
+        }
+        if (isEnabled(Level.INFO)) {
+            AsyncLogAppender.out("PASS: " + message);
+        }
+    }
+    
+    /**
+     * Log a PASS step, building the message only if the report or the INFO console output needs it
+     * Usage: StepLogger.pass(() -> "Shipment " + shipmentId + " received");
+     */
+    public static void pass(Supplier<String> message) {
+        if (isNeeded(Level.INFO)) {
+            pass(message.get());
+        }
     }
     
     /**
@@ -20,8 +74,12 @@ public class StepLogger {
      * Usage: StepLogger.passWithScreenshot("Login page displayed correctly");
      */
     public static void passWithScreenshot(String message) {
-        ExtentReportManager.logPassWithScreenshot("✅ " + message);
-        System.out.println("PASS (with screenshot): " + message);
+        if (isReported(Level.INFO)) {
+            ExtentReportManager.logPassWithScreenshot("✅ " + message);
+        }
+        if (isEnabled(Level.INFO)) {
+            AsyncLogAppender.out("PASS (with screenshot): " + message);
+        }
     }
     
     /**
@@ -30,7 +88,19 @@ public class StepLogger {
      */
     public static void fail(String message) {
         ExtentReportManager.logFail("❌ " + message);
-        System.err.println("FAIL: " + message);
+        if (isEnabled(Level.ERROR)) {
+            AsyncLogAppender.err("FAIL: " + message);
+        }
+    }
+    
+    /**
+     * Log a FAIL step, building the message only if the report or the ERROR console output needs it
+     * Usage: StepLogger.fail(() -> "Expected " + expected + " but found " + actual);
+     */
+    public static void fail(Supplier<String> message) {
+        if (isNeeded(Level.ERROR)) {
+            fail(message.get());
+        }
     }
     
     /**
@@ -39,7 +109,9 @@ public class StepLogger {
      */
     public static void failWithScreenshot(String message) {
         ExtentReportManager.logFailWithScreenshot("❌ " + message);
-        System.err.println("FAIL (with screenshot): " + message);
+        if (isEnabled(Level.ERROR)) {
+            AsyncLogAppender.err("FAIL (with screenshot): " + message);
+        }
     }
     
     /**
@@ -47,8 +119,22 @@ public class StepLogger {
      * Usage: StepLogger.info("Navigating to login page");
      */
     public static void info(String message) {
-        ExtentReportManager.logInfo("ℹ️ " + message);
-        System.out.println("INFO: " + message);
+        if (isReported(Level.INFO)) {
+            ExtentReportManager.logInfo("ℹ️ " + message);
+        }
+        if (isEnabled(Level.INFO)) {
+            AsyncLogAppender.out("INFO: " + message);
+        }
+    }
+    
+    /**
+     * Log an INFO step, building the message only if the report or the INFO console output needs it
+     * Usage: StepLogger.info(() -> "Picking " + quantity + " of " + sku);
+     */
+    public static void info(Supplier<String> message) {
+        if (isNeeded(Level.INFO)) {
+            info(message.get());
+        }
     }
     
     /**
@@ -56,8 +142,12 @@ public class StepLogger {
      * Usage: StepLogger.infoWithScreenshot("Current page state");
      */
     public static void infoWithScreenshot(String message) {
-        ExtentReportManager.logInfoWithScreenshot("ℹ️ " + message);
-        System.out.println("INFO (with screenshot): " + message);
+        if (isReported(Level.INFO)) {
+            ExtentReportManager.logInfoWithScreenshot("ℹ️ " + message);
+        }
+        if (isEnabled(Level.INFO)) {
+            AsyncLogAppender.out("INFO (with screenshot): " + message);
+        }
     }
     
     /**
@@ -65,8 +155,22 @@ public class StepLogger {
      * Usage: StepLogger.warning("Element took longer than expected to load");
      */
     public static void warning(String message) {
-        ExtentReportManager.logWarning("⚠️ " + message);
-        System.out.println("WARNING: " + message);
+        if (isReported(Level.WARNING)) {
+            ExtentReportManager.logWarning("⚠️ " + message);
+        }
+        if (isEnabled(Level.WARNING)) {
+            AsyncLogAppender.out("WARNING: " + message);
+        }
+    }
+    
+    /**
+     * Log a WARNING step, building the message only if the report or the WARNING console output needs it
+     * Usage: StepLogger.warning(() -> "Retrying " + locator + " after " + waitMillis + " ms");
+     */
+    public static void warning(Supplier<String> message) {
+        if (isNeeded(Level.WARNING)) {
+            warning(message.get());
+        }
     }
     
     /**
@@ -74,8 +178,22 @@ public class StepLogger {
      * Usage: StepLogger.skip("Test skipped due to environment issue");
      */
     public static void skip(String message) {
-        ExtentReportManager.logSkip("⏭️ " + message);
-        System.out.println("SKIP: " + message);
+        if (isReported(Level.INFO)) {
+            ExtentReportManager.logSkip("⏭️ " + message);
+        }
+        if (isEnabled(Level.INFO)) {
+            AsyncLogAppender.out("SKIP: " + message);
+        }
+    }
+    
+    /**
+     * Log a SKIP step, building the message only if the report or the INFO console output needs it
+     * Usage: StepLogger.skip(() -> "No test data for " + scenarioName);
+     */
+    public static void skip(Supplier<String> message) {
+        if (isNeeded(Level.INFO)) {
+            skip(message.get());
+        }
     }
     
     /**
@@ -83,8 +201,12 @@ public class StepLogger {
      * Usage: StepLogger.stepStart("Given user is on login page");
      */
     public static void stepStart(String stepDescription) {
-        ExtentReportManager.logInfo("🔄 Starting: " + stepDescription);
-        System.out.println("STEP START: " + stepDescription);
+        if (isReported(Level.INFO)) {
+            ExtentReportManager.logInfo("🔄 Starting: " + stepDescription);
+        }
+        if (isEnabled(Level.INFO)) {
+            AsyncLogAppender.out("STEP START: " + stepDescription);
+        }
     }
     
     /**
@@ -92,8 +214,12 @@ public class StepLogger {
      * Usage: StepLogger.stepComplete("Given user is on login page");
      */
     public static void stepComplete(String stepDescription) {
-        ExtentReportManager.logInfo("✔️ Completed: " + stepDescription);
-        System.out.println("STEP COMPLETE: " + stepDescription);
+        if (isReported(Level.INFO)) {
+            ExtentReportManager.logInfo("✔️ Completed: " + stepDescription);
+        }
+        if (isEnabled(Level.INFO)) {
+            AsyncLogAppender.out("STEP COMPLETE: " + stepDescription);
+        }
     }
     
     /**
@@ -101,7 +227,21 @@ public class StepLogger {
      * Usage: StepLogger.logWithScreenshot("Custom verification point");
      */
     public static void logWithScreenshot(String message) {
-        ExtentReportManager.logInfoWithScreenshot("📸 " + message);
-        System.out.println("LOG (with screenshot): " + message);
+        if (isReported(Level.INFO)) {
+            ExtentReportManager.logInfoWithScreenshot("📸 " + message);
+        }
+        if (isEnabled(Level.INFO)) {
+            AsyncLogAppender.out("LOG (with screenshot): " + message);
+        }
+    }
+    
+    /**
+     * Log a DEBUG message - console / Result.log only, off unless log.level=debug
+     * Usage: StepLogger.debug(() -> "Row data: " + row);
+     */
+    public static void debug(Supplier<String> message) {
+        if (isEnabled(Level.DEBUG)) {
+            AsyncLogAppender.out("DEBUG: " + message.get());
+        }
     }
 }
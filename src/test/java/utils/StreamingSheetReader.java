@@ -0,0 +1,341 @@
+package utils;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * StreamingSheetReader - Reads very large sheets row by row through POI's event API
+ * The sheet XML is pulled with StAX as the caller iterates, so only the current row is in memory instead
+ * of the whole XSSFWorkbook DOM (shared strings are loaded once by ReadOnlySharedStringsTable). The first
+ * row is the header; with column projection only the named columns are materialized per row.
+ * Values use the same conversion as readCell (numbers as doubles, booleans as true/false, formulas as null).
+ * Usage:
+ *   try (StreamingSheetReader rows = StreamingSheetReader.open("data/skus.xlsx", "SKUs", "Sku", "Quantity")) {
+ *       for (StreamingSheetReader.Row row : rows) { createSku(row.get("Sku"), row.get("Quantity")); }
+ *   }
+ */
+public class StreamingSheetReader implements Iterable<StreamingSheetReader.Row>, Closeable {
+
+    /**
+     * One data row holding only the projected columns
+     */
+    public static final class Row {
+        private final int rowNumber;
+        private final String[] values;
+        private final Map<String, Integer> columns;
+
+        private Row(int rowNumber, String[] values, Map<String, Integer> columns) {
+            this.rowNumber = rowNumber;
+            this.values = values;
+            this.columns = columns;
+        }
+
+        /**
+         * 1-based row number in the sheet (the header is row 1)
+         */
+        public int getRowNumber() {
+            return rowNumber;
+        }
+
+        public String get(String column) {
+            Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+            if (index == null) {
+                throw new IllegalArgumentException("Column " + column + " was not read from the sheet");
+            }
+            return values[index];
+        }
+
+        /**
+         * Value by position in the projection (or in the sheet when no projection was given)
+         */
+        public String get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public String toString() {
+            return rowNumber + Arrays.toString(values);
+        }
+    }
+
+    private final OPCPackage pkg;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final InputStream sheetData;
+    private final XMLStreamReader xml;
+    private final List<String> headers = new ArrayList<>();
+    private final Map<String, Integer> columns = new HashMap<>();
+    // Sheet column index -> position in the projected row (-1 = not read)
+    private int[] projection;
+    private int width;
+    private int currentRow;
+    private boolean iterated;
+
+    private StreamingSheetReader(File file, String sheetName, String[] selectedColumns) throws IOException {
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(pkg);
+            sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            sheetData = findSheet(reader, sheetName);
+            XMLInputFactory factory = XMLInputFactory.newFactory();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            xml = factory.createXMLStreamReader(sheetData);
+            readHeader(selectedColumns);
+        } catch (OpenXML4JException | SAXException | XMLStreamException e) {
+            close();
+            throw new IOException("Failed to open sheet " + sheetName + " in " + file, e);
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open a sheet for streaming; pass column names to read only those columns
+     * A null sheet name opens the first sheet of the workbook.
+     */
+    public static StreamingSheetReader open(String workbookPath, String sheetName, String... columns) throws IOException {
+        return new StreamingSheetReader(new File(workbookPath), sheetName, columns);
+    }
+
+    private static InputStream findSheet(XSSFReader reader, String sheetName) throws IOException, OpenXML4JException {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while (sheets.hasNext()) {
+            InputStream data = sheets.next();
+            if (sheetName == null || sheets.getSheetName().equals(sheetName)) {
+                return data;
+            }
+            data.close();
+        }
+        throw new IllegalArgumentException("Sheet " + sheetName + " not found");
+    }
+
+    private void readHeader(String[] selectedColumns) throws XMLStreamException {
+        String[] headerRow = nextRowValues(null);
+        if (headerRow != null) {
+            headers.addAll(Arrays.asList(headerRow));
+        }
+        projection = new int[headers.size()];
+        width = selectedColumns.length == 0 ? headers.size() : selectedColumns.length;
+        if (selectedColumns.length == 0) {
+            for (int i = 0; i < headers.size(); i++) {
+                projection[i] = i;
+                columns.putIfAbsent(String.valueOf(headers.get(i)).toLowerCase(Locale.ROOT), i);
+            }
+            return;
+        }
+        Arrays.fill(projection, -1);
+        for (int position = 0; position < selectedColumns.length; position++) {
+            int column = indexOfHeader(selectedColumns[position]);
+            if (column < 0) {
+                throw new IllegalArgumentException("Column " + selectedColumns[position] + " not found in the header row");
+            }
+            projection[column] = position;
+            columns.put(selectedColumns[position].toLowerCase(Locale.ROOT), position);
+        }
+    }
+
+    private int indexOfHeader(String name) {
+        for (int i = 0; i < headers.size(); i++) {
+            if (name.equalsIgnoreCase(headers.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public List<String> getHeaders() {
+        return List.copyOf(headers);
+    }
+
+    /**
+     * Single pass - the rows are read from the file as the iterator advances
+     */
+    @Override
+    public Iterator<Row> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("StreamingSheetReader can only be iterated once");
+        }
+        iterated = true;
+        return new Iterator<>() {
+            private Row next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        String[] values = nextRowValues(new String[width]);
+                        if (values != null) {
+                            next = new Row(currentRow, values, columns);
+                        }
+                    } catch (XMLStreamException e) {
+                        throw new UncheckedIOException(new IOException("Failed to read sheet row", e));
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Row next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Row row = next;
+                next = null;
+                return row;
+            }
+        };
+    }
+
+    /**
+     * Advance to the next <row> and read its cells; target == null reads every cell (header row)
+     */
+    private String[] nextRowValues(String[] target) throws XMLStreamException {
+        while (xml.hasNext()) {
+            if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                String r = xml.getAttributeValue(null, "r");
+                currentRow = r != null ? Integer.parseInt(r) : currentRow + 1;
+                return readRow(target);
+            }
+        }
+        return null;
+    }
+
+    private String[] readRow(String[] target) throws XMLStreamException {
+        List<String> all = target == null ? new ArrayList<>() : null;
+        int nextColumn = 0;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT || !"c".equals(xml.getLocalName())) {
+                continue;
+            }
+            String ref = xml.getAttributeValue(null, "r");
+            int column = ref != null ? columnIndex(ref) : nextColumn;
+            nextColumn = column + 1;
+            String type = xml.getAttributeValue(null, "t");
+
+            if (all != null) {
+                while (all.size() < column) {
+                    all.add("");
+                }
+                all.add(readCellValue(type));
+            } else if (column < projection.length && projection[column] >= 0) {
+                target[projection[column]] = readCellValue(type);
+            } else {
+                skipElement();
+            }
+        }
+        return all != null ? all.toArray(new String[0]) : target;
+    }
+
+    /**
+     * Reader is on <c>; consume up to </c> and convert the cached value
+     * Formula cells give null, as readCell does, even though the file caches their last result. Inline
+     * rich text is the concatenation of its <t> runs; phonetic runs (<rPh>) are left out.
+     */
+    private String readCellValue(String type) throws XMLStreamException {
+        String value = null;
+        StringBuilder text = null;
+        boolean formula = false;
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (xml.getLocalName()) {
+                case "f" -> formula = true;
+                case "v" -> value = xml.getElementText();
+                case "t" -> {
+                    if (text == null) {
+                        text = new StringBuilder();
+                    }
+                    text.append(xml.getElementText());
+                }
+                case "rPh" -> skipElement();
+                default -> {
+                }
+            }
+        }
+        String raw = value != null ? value : text != null ? text.toString() : null;
+        if (formula || raw == null) {
+            return null;
+        }
+        if (type == null || "n".equals(type)) {
+            return String.valueOf(Double.parseDouble(raw));
+        }
+        return switch (type) {
+            case "s" -> sharedStrings.getItemAt(Integer.parseInt(raw)).getString();
+            case "b" -> String.valueOf("1".equals(raw));
+            case "str", "inlineStr" -> raw;
+            default -> null;
+        };
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * "AB12" -> 27
+     */
+    private static int columnIndex(String cellRef) {
+        int column = 0;
+        for (int i = 0; i < cellRef.length() && Character.isLetter(cellRef.charAt(i)); i++) {
+            column = column * 26 + (cellRef.charAt(i) - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (xml != null) {
+                xml.close();
+            }
+        } catch (XMLStreamException e) {
+            // Closing anyway
+        }
+        if (sheetData != null) {
+            sheetData.close();
+        }
+        if (pkg != null) {
+            pkg.revert();
+        }
+    }
+}
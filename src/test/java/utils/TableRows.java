@@ -0,0 +1,145 @@
+package utils;
+
+import io.cucumber.datatable.DataTable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * TableRows - A Gherkin data table read as typed rows
+ * Header names are resolved to column indexes once per table; each row is then converted straight from
+ * the table's cells by index, without building a Map per row. Rows are converted lazily while iterating
+ * or streaming, so a 10k-row table is never held twice. Iterate as often as needed - every pass converts again.
+ * Cucumber only resolves table transformers for non-generic types, so each row type registered with
+ * @DataTableType has a concrete subclass (WarehouseRows.SkuLines, ...).
+ * Usage: TableRows.of(dataTable, header -> { int sku = header.column("SKU"); return cells -> cells.get(sku); })
+ */
+public class TableRows<R> implements Iterable<R> {
+
+    /**
+     * Header row of a table - index lookups happen once, while the row converter is built
+     */
+    public static final class Header {
+        private final List<String> names;
+
+        private Header(List<String> names) {
+            this.names = names;
+        }
+
+        /**
+         * Header of rows that do not come from a DataTable (e.g. the first line of a CSV file)
+         */
+        public static Header of(List<String> names) {
+            return new Header(names);
+        }
+
+        /**
+         * Index of a required column - fails fast naming the columns the table does have
+         */
+        public int column(String name) {
+            int index = optionalColumn(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("Data table has no column '" + name + "', columns are " + names);
+            }
+            return index;
+        }
+
+        /**
+         * Index of an optional column, or -1 when the table does not have it
+         */
+        public int optionalColumn(String name) {
+            for (int i = 0; i < names.size(); i++) {
+                if (name.equalsIgnoreCase(names.get(i).trim())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private final List<List<String>> rows;
+    private final Function<List<String>, R> converter;
+
+    /**
+     * Typed view of raw cells whose first row is the header
+     * @param binder resolves the columns it needs from the header and returns the per-row converter
+     */
+    protected TableRows(List<List<String>> cells, Function<Header, Function<List<String>, R>> binder) {
+        this.rows = cells.isEmpty() ? List.of() : cells.subList(1, cells.size());
+        this.converter = cells.isEmpty() ? row -> null : binder.apply(new Header(cells.get(0)));
+    }
+
+    /**
+     * Typed view of a table whose first row is the header
+     */
+    public static <R> TableRows<R> of(DataTable table, Function<Header, Function<List<String>, R>> binder) {
+        return new TableRows<>(table.cells(), binder);
+    }
+
+    /**
+     * Typed view of raw cells whose first row is the header (e.g. rows read from a file)
+     */
+    public static <R> TableRows<R> of(List<List<String>> cells, Function<Header, Function<List<String>, R>> binder) {
+        return new TableRows<>(cells, binder);
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public Iterator<R> iterator() {
+        Iterator<List<String>> cells = rows.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return cells.hasNext();
+            }
+
+            @Override
+            public R next() {
+                return converter.apply(cells.next());
+            }
+        };
+    }
+
+    public Stream<R> stream() {
+        return rows.stream().map(converter);
+    }
+
+    /**
+     * Every row converted up front - for callers that need random access or several passes
+     */
+    public List<R> toList() {
+        List<R> result = new ArrayList<>(rows.size());
+        for (List<String> row : rows) {
+            result.add(converter.apply(row));
+        }
+        return result;
+    }
+
+    /**
+     * Cell at index, or null for a missing optional column or an empty cell
+     */
+    public static String cell(List<String> cells, int index) {
+        if (index < 0 || index >= cells.size()) {
+            return null;
+        }
+        String value = cells.get(index);
+        return value == null || value.isEmpty() ? null : value.trim();
+    }
+
+    /**
+     * Cell as an int - accepts "12" and the "12.0" form numeric Excel cells are read as
+     */
+    public static int intCell(List<String> cells, int index) {
+        String value = cell(cells, index);
+        if (value == null) {
+            throw new IllegalArgumentException("Expected a number in column " + index + " of " + cells);
+        }
+        return value.indexOf('.') < 0 ? Integer.parseInt(value) : (int) Double.parseDouble(value);
+    }
+}
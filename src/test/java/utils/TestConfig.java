@@ -0,0 +1,180 @@
+package utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * TestConfig - Global settings.properties and its overrides, loaded once into an immutable snapshot
+ * Layers, lowest to highest precedence:
+ *   1. src/test/resources/Global settings.properties
+ *   2. src/test/resources/config/<RunnerName>.properties for the runner that is executing (optional)
+ *   3. environment variables prefixed CUCUMNEW_ - "Browser" is set by CUCUMNEW_BROWSER, base_url by CUCUMNEW_BASE_URL.
+ *      Unprefixed variables are ignored, so a shell's own BROWSER or URL never leaks into the run.
+ *   4. system properties - -DURL=... overrides a key layers 1-2 already define (java.*, user.*, os.* and
+ *      other JVM properties are therefore never picked up); -Dcucumnew.<key>=... sets any key, defined or not
+ * Keys are matched case-insensitively with '.', '-' and spaces treated as '_'. Readers never lock: a change
+ * to the settings file (checked at most once per second) or a runner switch builds a new snapshot and swaps
+ * it in with compare-and-set. Every read is counted; getStats() lists the most-read keys so lookups sitting
+ * in per-item loops show up in the run summary.
+ * Usage: TestConfig.get("URL"), TestConfig.getInt("timeout", 10)
+ */
+public class TestConfig {
+
+    private static final File SETTINGS = Paths.get(System.getProperty("user.dir"),
+            "src", "test", "resources", "Global settings.properties").toFile();
+    private static final String RUNNER_CONFIG_DIR = "config/";
+    private static final String OVERRIDE_PREFIX = "CUCUMNEW_";
+    private static final long STALE_CHECK_INTERVAL_MILLIS = 1000;
+    private static final int HOT_KEYS_REPORTED = 5;
+
+    /**
+     * Merged values of every layer, keyed by normalized key
+     */
+    private record Snapshot(Map<String, String> values, String runner, long fileModified) {
+    }
+
+    private static final AtomicReference<Snapshot> snapshot = new AtomicReference<>(build(null));
+    private static volatile long nextCheckMillis = System.currentTimeMillis() + STALE_CHECK_INTERVAL_MILLIS;
+
+    // Read counters keyed by the caller's spelling; also caches its normalized form
+    private static final Map<String, KeyReads> reads = new ConcurrentHashMap<>();
+
+    private static final class KeyReads {
+        private final String normalized;
+        private final LongAdder count = new LongAdder();
+
+        private KeyReads(String key) {
+            this.normalized = normalize(key);
+        }
+    }
+
+    /**
+     * Value of the key, or null when no layer defines it
+     */
+    public static String get(String key) {
+        KeyReads keyReads = reads.computeIfAbsent(key, KeyReads::new);
+        keyReads.count.increment();
+        return current().values().get(keyReads.normalized);
+    }
+
+    public static String get(String key, String defaultValue) {
+        String value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+
+    /**
+     * Apply the per-runner layer - called by a runner before its scenarios start
+     */
+    public static void useRunner(String runner) {
+        Snapshot current;
+        do {
+            current = snapshot.get();
+            if (runner.equals(current.runner())) {
+                return;
+            }
+        } while (!snapshot.compareAndSet(current, build(runner)));
+    }
+
+    /**
+     * Rebuild the snapshot from every layer now, e.g. after setting system properties at runtime
+     */
+    public static void reload() {
+        Snapshot current;
+        do {
+            current = snapshot.get();
+        } while (!snapshot.compareAndSet(current, build(current.runner())));
+    }
+
+    private static Snapshot current() {
+        Snapshot current = snapshot.get();
+        long now = System.currentTimeMillis();
+        if (now >= nextCheckMillis) {
+            nextCheckMillis = now + STALE_CHECK_INTERVAL_MILLIS;
+            if (SETTINGS.lastModified() != current.fileModified()) {
+                Snapshot next = build(current.runner());
+                // A concurrent reload may already have published a newer snapshot - keep whichever is current
+                return snapshot.compareAndSet(current, next) ? next : snapshot.get();
+            }
+        }
+        return current;
+    }
+
+    private static Snapshot build(String runner) {
+        long fileModified = SETTINGS.lastModified();
+        Map<String, String> values = new HashMap<>();
+        try (InputStream in = new FileInputStream(SETTINGS)) {
+            putAll(values, in);
+        } catch (IOException e) {
+            System.err.println("Failed to read " + SETTINGS + ": " + e.getMessage());
+        }
+        if (runner != null) {
+            try (InputStream in = TestConfig.class.getClassLoader().getResourceAsStream(RUNNER_CONFIG_DIR + runner + ".properties")) {
+                if (in != null) {
+                    putAll(values, in);
+                }
+            } catch (IOException e) {
+                System.err.println("Failed to read runner config for " + runner + ": " + e.getMessage());
+            }
+        }
+        Set<String> definedKeys = Set.copyOf(values.keySet());
+        System.getenv().forEach((key, value) -> {
+            String normalized = normalize(key);
+            if (normalized.startsWith(OVERRIDE_PREFIX)) {
+                values.put(normalized.substring(OVERRIDE_PREFIX.length()), value);
+            }
+        });
+        System.getProperties().forEach((key, value) -> {
+            String normalized = normalize(key.toString());
+            if (normalized.startsWith(OVERRIDE_PREFIX)) {
+                values.put(normalized.substring(OVERRIDE_PREFIX.length()), value.toString());
+            } else if (definedKeys.contains(normalized)) {
+                values.put(normalized, value.toString());
+            }
+        });
+        return new Snapshot(Map.copyOf(values), runner, fileModified);
+    }
+
+    private static void putAll(Map<String, String> values, InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(in);
+        properties.forEach((key, value) -> values.put(normalize(key.toString()), value.toString().trim()));
+    }
+
+    private static String normalize(String key) {
+        return key.trim().replace('.', '_').replace('-', '_').replace(' ', '_').toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Most-read keys of the run, e.g. "2 keys read, hottest: base_url=1200, URL=3"
+     */
+    public static String getStats() {
+        return reads.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, KeyReads> entry) -> entry.getValue().count.sum()).reversed())
+                .limit(HOT_KEYS_REPORTED)
+                .map(entry -> entry.getKey() + "=" + entry.getValue().count.sum())
+                .collect(Collectors.joining(", ", reads.size() + " keys read, hottest: ", ""));
+    }
+}
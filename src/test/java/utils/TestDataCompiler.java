@@ -0,0 +1,33 @@
+package utils;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * TestDataCompiler - Build step that compiles every ExcelData workbook into a CompiledWorkbook file
+ * Bound to process-test-classes in pom.xml, so the compiled files are refreshed on every build and
+ * runtime lookups memory-map them instead of parsing OOXML. Excel lock files (~$...) are skipped.
+ * Usage: TestDataCompiler <input dir> <output dir>
+ */
+public class TestDataCompiler {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: TestDataCompiler <input dir> <output dir>");
+            System.exit(1);
+        }
+        File[] workbooks = new File(args[0]).listFiles((dir, name) -> name.endsWith(".xlsx") && !name.startsWith("~$"));
+        if (workbooks == null) {
+            System.out.println("No test data workbooks in " + args[0]);
+            return;
+        }
+        System.setProperty("testdata.compiled.dir", args[1]);
+        for (File workbook : workbooks) {
+            File target = CompiledWorkbook.compiledFileFor(workbook);
+            long start = System.nanoTime();
+            CompiledWorkbook.write(workbook, WorkbookIndex.parse(workbook).values(), target);
+            System.out.printf("Compiled %s -> %s (%d KB, %d ms)%n", workbook.getName(), target,
+                    target.length() / 1024, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package utils;
+
+import com.github.javafaker.Faker;
+import utils.WarehouseRows.CountLine;
+import utils.WarehouseRows.PalletLine;
+import utils.WarehouseRows.SkuLine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * WarehouseDataGenerator - Seeded, reproducible warehouse datasets for scale runs
+ * Produces a SKU catalog with locations, lots and on-hand stock, inbound shipments with pallets, outbound
+ * orders with a controlled share of shortages and cycle counts with a controlled variance distribution.
+ * Every entity is generated from its own seed derived from (run seed, dataset, index), so the same seed
+ * always yields the same data, any row can be produced on its own and nothing has to be held in memory:
+ * datasets are streamed to the callback or the fixture file as they are generated. Quantities are
+ * consistent across datasets - a cycle count's system quantity is the SKU's on-hand stock and an
+ * order line is short exactly when it asks for more than that stock.
+ * Fixture files are plain CSV with the headers the bulk data steps read (see BulkRows).
+ * Usage: WarehouseDataGenerator <seed> <output dir> [sku count]
+ *        new WarehouseDataGenerator(42, Sizes.forSkus(10_000)).loadInto(WarehouseDataManager.getInstance())
+ */
+public class WarehouseDataGenerator {
+
+    private static final String[] ZONES = {"A", "B", "C", "D", "E", "F"};
+
+    // Dataset ids mixed into every per-entity seed
+    private static final int SKU = 1;
+    private static final int SHIPMENT = 2;
+    private static final int ORDER = 3;
+    private static final int COUNT = 4;
+
+    /**
+     * How much data to generate and how it is distributed
+     * @param shortageRate share of order lines that ask for more than is on hand (0..1)
+     * @param varianceRate share of cycle count lines whose physical count differs from the system (0..1)
+     * @param maxVariance largest absolute count variance; variances cluster around zero (normal, clamped)
+     */
+    public record Sizes(int skus, int shipments, int linesPerShipment, int skusPerPallet,
+                        int orders, int linesPerOrder, double shortageRate,
+                        int countLines, double varianceRate, int maxVariance) {
+
+        /**
+         * Proportional defaults for a catalog size - 5% shortages, 10% count variances up to +/-25
+         */
+        public static Sizes forSkus(int skus) {
+            return new Sizes(skus, Math.max(1, skus / 100), 50, 4, Math.max(1, skus / 100), 20, 0.05,
+                    skus, 0.10, 25);
+        }
+    }
+
+    /**
+     * Catalog entry - location and lots are stable for the SKU across every dataset
+     */
+    public record Sku(String code, String description, String location, List<String> lots, int onHand) {
+    }
+
+    /**
+     * Order line as the shortage steps read it (| SKU | Ordered | Available | Picked |)
+     */
+    public record OrderLine(String orderId, String sku, int ordered, int available) {
+
+        public int picked() {
+            return Math.min(ordered, available);
+        }
+
+        public boolean isShort() {
+            return ordered > available;
+        }
+    }
+
+    /**
+     * Inbound shipment - lines and the pallets they arrived on
+     */
+    public record Shipment(String shipmentId, List<SkuLine> lines, List<PalletLine> pallets) {
+    }
+
+    private final long seed;
+    private final Sizes sizes;
+    // One Faker whose random source is re-seeded per entity - creating a Faker per row is far too slow
+    private final Random random = new Random();
+    private final Faker faker = new Faker(Locale.US, random);
+
+    public WarehouseDataGenerator(long seed, Sizes sizes) {
+        this.seed = seed;
+        this.sizes = sizes;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: WarehouseDataGenerator <seed> <output dir> [sku count]");
+            System.exit(1);
+        }
+        long seed = Long.parseLong(args[0]);
+        int skus = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        long start = System.nanoTime();
+        new WarehouseDataGenerator(seed, Sizes.forSkus(skus)).writeFixtures(Paths.get(args[1]));
+        System.out.printf("Generated %d SKUs with seed %d into %s (%d ms)%n", skus, seed, args[1],
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Random reseed(int dataset, long index) {
+        // SplitMix64 finalizer - neighbouring indexes get unrelated seeds
+        long z = seed + dataset * 0x9E3779B97F4A7C15L + index * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        random.setSeed(z ^ (z >>> 31));
+        return random;
+    }
+
+    public static String skuCode(int index) {
+        return String.format("SKU-%06d", index + 1);
+    }
+
+    /**
+     * SKU by catalog index - the same index always gives the same SKU for this seed
+     */
+    public Sku sku(int index) {
+        Random rnd = reseed(SKU, index);
+        String location = String.format("%s-%02d-%02d", ZONES[rnd.nextInt(ZONES.length)], 1 + rnd.nextInt(40), 1 + rnd.nextInt(12));
+        int onHand = 20 + rnd.nextInt(480);
+        int lotCount = 1 + rnd.nextInt(3);
+        List<String> lots = new ArrayList<>(lotCount);
+        for (int i = 0; i < lotCount; i++) {
+            lots.add("LOT-" + faker.numerify("######") + "-" + (i + 1));
+        }
+        return new Sku(skuCode(index), faker.commerce().productName(), location, List.copyOf(lots), onHand);
+    }
+
+    private int onHand(int skuIndex) {
+        // Same draws as sku(), without building the description and lots
+        Random rnd = reseed(SKU, skuIndex);
+        rnd.nextInt(ZONES.length);
+        rnd.nextInt(40);
+        rnd.nextInt(12);
+        return 20 + rnd.nextInt(480);
+    }
+
+    public Shipment shipment(int index) {
+        String shipmentId = String.format("SHP-%06d", index + 1);
+        Random rnd = reseed(SHIPMENT, index);
+        int[] skuIndexes = new int[sizes.linesPerShipment()];
+        int[] quantities = new int[skuIndexes.length];
+        for (int i = 0; i < skuIndexes.length; i++) {
+            skuIndexes[i] = rnd.nextInt(sizes.skus());
+            quantities[i] = 1 + rnd.nextInt(200);
+        }
+        List<SkuLine> lines = new ArrayList<>(skuIndexes.length);
+        List<PalletLine> pallets = new ArrayList<>();
+        List<String> palletSkus = new ArrayList<>();
+        for (int i = 0; i < skuIndexes.length; i++) {
+            Sku sku = sku(skuIndexes[i]);
+            lines.add(new SkuLine(sku.code(), quantities[i], sku.description()));
+            palletSkus.add(sku.code());
+            if (palletSkus.size() == sizes.skusPerPallet() || i == skuIndexes.length - 1) {
+                String palletId = String.format("PLT-%06d-%03d", index + 1, pallets.size() + 1);
+                pallets.add(new PalletLine(palletId, List.copyOf(palletSkus), "Full"));
+                palletSkus.clear();
+            }
+        }
+        return new Shipment(shipmentId, List.copyOf(lines), List.copyOf(pallets));
+    }
+
+    public void orderLines(int index, Consumer<OrderLine> lines) {
+        String orderId = String.format("ORD-%06d", index + 1);
+        for (int i = 0; i < sizes.linesPerOrder(); i++) {
+            Random rnd = reseed(ORDER, (long) index * sizes.linesPerOrder() + i);
+            int skuIndex = rnd.nextInt(sizes.skus());
+            boolean shortage = rnd.nextDouble() < sizes.shortageRate();
+            int extra = 1 + rnd.nextInt(50);
+            double share = rnd.nextDouble();
+            int available = onHand(skuIndex);
+            int ordered = shortage ? available + extra : Math.max(1, (int) (available * share));
+            lines.accept(new OrderLine(orderId, skuCode(skuIndex), ordered, available));
+        }
+    }
+
+    /**
+     * Cycle count line for a SKU - system is the on-hand stock, physical differs for varianceRate of lines
+     */
+    public CountLine countLine(int skuIndex) {
+        Random rnd = reseed(COUNT, skuIndex);
+        int variance = 0;
+        if (rnd.nextDouble() < sizes.varianceRate()) {
+            double gaussian = rnd.nextGaussian() * sizes.maxVariance() / 3.0;
+            variance = (int) Math.max(-sizes.maxVariance(), Math.min(sizes.maxVariance(), Math.round(gaussian)));
+            if (variance == 0) {
+                variance = rnd.nextBoolean() ? 1 : -1;
+            }
+        }
+        int system = onHand(skuIndex);
+        return new CountLine(skuCode(skuIndex), system, Math.max(0, system + variance));
+    }
+
+    public void skus(Consumer<Sku> skus) {
+        for (int i = 0; i < sizes.skus(); i++) {
+            skus.accept(sku(i));
+        }
+    }
+
+    public void shipments(Consumer<Shipment> shipments) {
+        for (int i = 0; i < sizes.shipments(); i++) {
+            shipments.accept(shipment(i));
+        }
+    }
+
+    public void orderLines(Consumer<OrderLine> lines) {
+        for (int i = 0; i < sizes.orders(); i++) {
+            orderLines(i, lines);
+        }
+    }
+
+    public void countLines(Consumer<CountLine> lines) {
+        for (int i = 0; i < Math.min(sizes.countLines(), sizes.skus()); i++) {
+            lines.accept(countLine(i));
+        }
+    }
+
+    /**
+     * Load every dataset into the data manager - stock, lots, shipment expectations, pallets and orders
+     */
+    public void loadInto(WarehouseDataManager dataManager) {
+        skus(sku -> {
+            dataManager.updateInventory(sku.code(), sku.onHand());
+            sku.lots().forEach(lot -> dataManager.addLotNumber(sku.code(), lot));
+        });
+        shipments(shipment -> {
+            shipment.lines().forEach(line ->
+                    dataManager.storeShipmentData(shipment.shipmentId(), "expected_" + line.sku(), line.quantity()));
+            shipment.pallets().forEach(pallet ->
+                    pallet.skus().forEach(sku -> dataManager.assignPallet(sku, pallet.palletId())));
+        });
+        orderLines(line -> {
+            dataManager.storeOrderData(line.orderId(), "ordered_" + line.sku(), line.ordered());
+            dataManager.storeOrderData(line.orderId(), "picked_" + line.sku(), line.picked());
+        });
+    }
+
+    /**
+     * Stream every dataset to CSV fixture files under the directory:
+     *   skus.csv, shipments/SHP-000001.csv, pallets.csv, orders/ORD-000001.csv, shortages.csv, cycle-count.csv
+     * Shipment and order files feed the "... with items from {string}" steps, cycle-count.csv the
+     * "I perform physical count from {string}" step.
+     */
+    public void writeFixtures(Path directory) throws IOException {
+        Files.createDirectories(directory.resolve("shipments"));
+        Files.createDirectories(directory.resolve("orders"));
+
+        try (Writer out = writer(directory.resolve("skus.csv"))) {
+            out.write("SKU,Description,Location,Lots,On Hand\n");
+            skus(sku -> write(out, sku.code(), sku.description(), sku.location(), String.join(" ", sku.lots()), sku.onHand()));
+        }
+        try (Writer pallets = writer(directory.resolve("pallets.csv"))) {
+            pallets.write("Shipment,Pallet ID,SKUs,Status\n");
+            shipments(shipment -> {
+                try (Writer out = writer(directory.resolve("shipments").resolve(shipment.shipmentId() + ".csv"))) {
+                    out.write("SKU,Quantity,Description\n");
+                    shipment.lines().forEach(line -> write(out, line.sku(), line.quantity(), line.description()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                shipment.pallets().forEach(pallet ->
+                        write(pallets, shipment.shipmentId(), pallet.palletId(), String.join(", ", pallet.skus()), pallet.status()));
+            });
+        }
+        try (Writer shortages = writer(directory.resolve("shortages.csv"))) {
+            shortages.write("Order,SKU,Ordered,Available,Picked\n");
+            for (int i = 0; i < sizes.orders(); i++) {
+                String orderId = String.format("ORD-%06d", i + 1);
+                try (Writer out = writer(directory.resolve("orders").resolve(orderId + ".csv"))) {
+                    out.write("SKU,Quantity\n");
+                    orderLines(i, line -> {
+                        write(out, line.sku(), line.ordered());
+                        if (line.isShort()) {
+                            write(shortages, line.orderId(), line.sku(), line.ordered(), line.available(), line.picked());
+                        }
+                    });
+                }
+            }
+        }
+        try (Writer out = writer(directory.resolve("cycle-count.csv"))) {
+            out.write("SKU,System,Physical,Variance\n");
+            countLines(line -> write(out, line.sku(), line.systemQuantity(), line.physicalQuantity(), line.variance()));
+        }
+    }
+
+    private static Writer writer(Path file) throws IOException {
+        return Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    }
+
+    private static void write(Writer out, Object... cells) {
+        try {
+            for (int i = 0; i < cells.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                String cell = String.valueOf(cells[i]);
+                if (cell.indexOf(',') >= 0 || cell.indexOf('"') >= 0) {
+                    cell = '"' + cell.replace("\"", "\"\"") + '"';
+                }
+                out.write(cell);
+            }
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
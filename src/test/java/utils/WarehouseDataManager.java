@@ -20,7 +20,8 @@ public class WarehouseDataManager {
     private static final Map<String, Map<String, Object>> orderData = new LinkedHashMap<>();
     private static final Map<String, Set<String>> lotNumbers = new LinkedHashMap<>();
     private static final Map<String, List<String>> palletAssignments = new LinkedHashMap<>();
-    private static final Map<String, Integer> inventoryLevels = new LinkedHashMap<>();
+    // Synchronized - scenarios without a view write it while others read it through their view's fallback
+    private static final Map<String, Integer> inventoryLevels = Collections.synchronizedMap(new LinkedHashMap<>());
     
     // Collections demonstrating different data structures
     private static final List<String> auditTrail = new ArrayList<>();
@@ -29,6 +30,9 @@ public class WarehouseDataManager {
     
     private static final ObjectMapper objectMapper = new ObjectMapper();
     
+    // Scenario-scoped inventory over a shared fixture - reads fall through to the global levels while set
+    private static final ThreadLocal<InventoryView> scenarioInventory = new ThreadLocal<>();
+    
     // Singleton pattern demonstration
     private static WarehouseDataManager instance;
     
@@ -116,28 +120,58 @@ public class WarehouseDataManager {
         return palletAssignments.getOrDefault(sku, new ArrayList<>());
     }
     
+    // Shared fixtures - the scenario reads the fixture and writes only its own changes
+    public void useInventory(InventoryFixture fixture) {
+        InventoryView view = scenarioInventory.get();
+        if (view == null) {
+            scenarioInventory.set(fixture.newView(inventoryLevels));
+        } else {
+            view.add(fixture);
+        }
+        addAuditEntry("Inventory fixture applied: " + fixture.size() + " items");
+    }
+    
+    /**
+     * Drop the scenario's inventory view - called from the @After hook
+     */
+    public void endScenario() {
+        scenarioInventory.remove();
+    }
+    
+    private Map<String, Integer> currentInventoryLevels() {
+        InventoryView view = scenarioInventory.get();
+        if (view != null) {
+            return view.quantities();
+        }
+        synchronized (inventoryLevels) {
+            return new LinkedHashMap<>(inventoryLevels);
+        }
+    }
+    
     // Inventory operations
     public void updateInventory(String sku, int quantity) {
-        if (inventoryLevels.containsKey(sku)) {
-            int currentQty = inventoryLevels.get(sku);
-            inventoryLevels.put(sku, currentQty + quantity);
-        } else {
-            inventoryLevels.put(sku, quantity);
+        InventoryView view = scenarioInventory.get();
+        if (view != null) {
+            int level = view.adjust(sku, quantity);
+            addAuditEntry("Inventory updated: " + sku + " -> " + level);
+            return;
         }
-        addAuditEntry("Inventory updated: " + sku + " -> " + inventoryLevels.get(sku));
+        int level = inventoryLevels.merge(sku, quantity, Integer::sum);
+        addAuditEntry("Inventory updated: " + sku + " -> " + level);
     }
     
     public Integer getInventoryLevel(String sku) {
-        return inventoryLevels.getOrDefault(sku, 0);
+        InventoryView view = scenarioInventory.get();
+        return view != null ? view.quantity(sku) : inventoryLevels.getOrDefault(sku, 0);
     }
     
     public Map<String, Integer> getAllInventoryLevels() {
-        return new LinkedHashMap<>(inventoryLevels);
+        return currentInventoryLevels();
     }
     
     // Stream operations for data analysis
     public List<String> getLowStockItems(int threshold) {
-        return inventoryLevels.entrySet().stream()
+        return currentInventoryLevels().entrySet().stream()
                 .filter(entry -> entry.getValue() < threshold)
                 .map(Map.Entry::getKey)
                 .sorted()
@@ -145,7 +179,7 @@ public class WarehouseDataManager {
     }
     
     public Map<String, Integer> getInventoryByRange(int min, int max) {
-        return inventoryLevels.entrySet().stream()
+        return currentInventoryLevels().entrySet().stream()
                 .filter(entry -> entry.getValue() >= min && entry.getValue() <= max)
                 .collect(Collectors.toMap(
                     Map.Entry::getKey,
@@ -156,7 +190,7 @@ public class WarehouseDataManager {
     }
     
     public long getTotalInventoryValue() {
-        return inventoryLevels.values().stream()
+        return currentInventoryLevels().values().stream()
                 .mapToLong(Integer::longValue)
                 .sum();
     }
@@ -352,11 +386,19 @@ public class WarehouseDataManager {
     // Data export methods
     public Map<String, Object> exportAllData() {
         Map<String, Object> exportData = new LinkedHashMap<>();
-        exportData.put("shipments", new LinkedHashMap<>(shipmentData));
+        Map<String, Map<String, Object>> shipments = new LinkedHashMap<>(shipmentData);
+        InventoryView view = scenarioInventory.get();
+        if (view != null) {
+            // Metadata written while a fixture is in use lives in the view - report it with the global entries
+            Map<String, Object> metadata = new LinkedHashMap<>(shipmentData.getOrDefault("metadata", Map.of()));
+            metadata.putAll(view.allMetadata());
+            shipments.put("metadata", metadata);
+        }
+        exportData.put("shipments", shipments);
         exportData.put("orders", new LinkedHashMap<>(orderData));
         exportData.put("lot_numbers", new LinkedHashMap<>(lotNumbers));
         exportData.put("pallet_assignments", new LinkedHashMap<>(palletAssignments));
-        exportData.put("inventory_levels", new LinkedHashMap<>(inventoryLevels));
+        exportData.put("inventory_levels", new LinkedHashMap<>(currentInventoryLevels()));
         exportData.put("audit_trail", new ArrayList<>(auditTrail));
         exportData.put("export_timestamp", LocalDateTime.now().toString());
         
@@ -388,15 +430,24 @@ public class WarehouseDataManager {
     }
     
     // Simple metadata operations
+    // While a fixture is in use, metadata is scenario-local and falls back to the fixture's
     public void addMetadata(String key, Object value) {
-        storeShipmentData("metadata", key, value);
+        InventoryView view = scenarioInventory.get();
+        if (view != null) {
+            view.putMetadata(key, value);
+        } else {
+            storeShipmentData("metadata", key, value);
+        }
     }
     
     public Object getMetadata(String key) {
-        return getShipmentData("metadata", key);
+        InventoryView view = scenarioInventory.get();
+        Object value = view != null ? view.metadata(key) : null;
+        return value != null ? value : getShipmentData("metadata", key);
     }
     
     public String getMetadataAsString(String key) {
-        return getShipmentDataAsString("metadata", key);
+        Object value = getMetadata(key);
+        return value != null ? value.toString() : null;
     }
 }
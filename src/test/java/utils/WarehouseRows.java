@@ -0,0 +1,101 @@
+package utils;
+
+import io.cucumber.datatable.DataTable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * WarehouseRows - Compact row types for the warehouse step tables
+ * Each record resolves its columns once per table in columns(Header) (see TableRows) and has a table
+ * class (SkuLines, PalletLines, PickLines, CountLines) registered in stepdefs.WarehouseTableTypes, so
+ * step definitions receive typed rows instead of List<Map<String, String>>.
+ */
+public final class WarehouseRows {
+
+    private WarehouseRows() {
+    }
+
+    /**
+     * | SKU | Quantity | Description | - Description is optional
+     */
+    public record SkuLine(String sku, int quantity, String description) {
+
+        public static Function<List<String>, SkuLine> columns(TableRows.Header header) {
+            int sku = header.column("SKU");
+            int quantity = header.column("Quantity");
+            int description = header.optionalColumn("Description");
+            return cells -> new SkuLine(TableRows.cell(cells, sku), TableRows.intCell(cells, quantity), TableRows.cell(cells, description));
+        }
+    }
+
+    /**
+     * | Pallet ID | SKUs | Status | - SKUs is a comma-separated list, Status is optional
+     */
+    public record PalletLine(String palletId, List<String> skus, String status) {
+
+        public static Function<List<String>, PalletLine> columns(TableRows.Header header) {
+            int palletId = header.column("Pallet ID");
+            int skus = header.column("SKUs");
+            int status = header.optionalColumn("Status");
+            return cells -> new PalletLine(TableRows.cell(cells, palletId),
+                    List.copyOf(Arrays.asList(TableRows.cell(cells, skus).split("\\s*,\\s*"))),
+                    TableRows.cell(cells, status));
+        }
+    }
+
+    /**
+     * | SKU | Pallet ID | Quantity |
+     */
+    public record PickLine(String sku, String palletId, int quantity) {
+
+        public static Function<List<String>, PickLine> columns(TableRows.Header header) {
+            int sku = header.column("SKU");
+            int palletId = header.column("Pallet ID");
+            int quantity = header.column("Quantity");
+            return cells -> new PickLine(TableRows.cell(cells, sku), TableRows.cell(cells, palletId), TableRows.intCell(cells, quantity));
+        }
+    }
+
+    /**
+     * | SKU | System | Physical | - a Variance column, when present, is derived rather than read
+     */
+    public record CountLine(String sku, int systemQuantity, int physicalQuantity) {
+
+        public static Function<List<String>, CountLine> columns(TableRows.Header header) {
+            int sku = header.column("SKU");
+            int system = header.column("System");
+            int physical = header.column("Physical");
+            return cells -> new CountLine(TableRows.cell(cells, sku), TableRows.intCell(cells, system), TableRows.intCell(cells, physical));
+        }
+
+        public int variance() {
+            return physicalQuantity - systemQuantity;
+        }
+    }
+
+    public static final class SkuLines extends TableRows<SkuLine> {
+        public SkuLines(DataTable table) {
+            super(table.cells(), SkuLine::columns);
+        }
+    }
+
+    public static final class PalletLines extends TableRows<PalletLine> {
+        public PalletLines(DataTable table) {
+            super(table.cells(), PalletLine::columns);
+        }
+    }
+
+    public static final class PickLines extends TableRows<PickLine> {
+        public PickLines(DataTable table) {
+            super(table.cells(), PickLine::columns);
+        }
+    }
+
+    public static final class CountLines extends TableRows<CountLine> {
+        public CountLines(DataTable table) {
+            super(table.cells(), CountLine::columns);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package utils;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * WorkbookIndex - Every sheet of a test-data workbook, parsed once into SheetIndex instances
+ * When the build has compiled the workbook (CompiledWorkbook) and the compiled file is still current,
+ * the sheets are memory-mapped from it instead and the xlsx is not parsed at all.
+ * Remembers the file's modification time so ExcelUtils can tell when it has to be reloaded; the file is
+ * stat'ed at most once per second per workbook. The POI workbook is closed after loading; only the
+ * extracted values stay in memory and they are never modified, so an index is shared between threads.
+ */
+public class WorkbookIndex {
+
+    private static final long STALE_CHECK_INTERVAL_MILLIS = 1000;
+
+    private final File file;
+    private final long lastModified;
+    private final Map<String, SheetData> sheets;
+    private final boolean compiled;
+    private volatile long nextCheckMillis;
+
+    private WorkbookIndex(File file, long lastModified, Map<String, SheetData> sheets, boolean compiled) {
+        this.file = file;
+        this.lastModified = lastModified;
+        this.sheets = sheets;
+        this.compiled = compiled;
+        this.nextCheckMillis = System.currentTimeMillis() + STALE_CHECK_INTERVAL_MILLIS;
+    }
+
+    public static WorkbookIndex load(File file) throws IOException {
+        long lastModified = file.lastModified();
+        Map<String, SheetData> compiledSheets = CompiledWorkbook.openIfFresh(file);
+        if (compiledSheets != null) {
+            return new WorkbookIndex(file, lastModified, Map.copyOf(compiledSheets), true);
+        }
+        return new WorkbookIndex(file, lastModified, Map.copyOf(parse(file)), false);
+    }
+
+    /**
+     * Parse the xlsx itself, ignoring any compiled file
+     */
+    public static Map<String, SheetIndex> parse(File file) throws IOException {
+        Map<String, SheetIndex> sheets = new LinkedHashMap<>();
+        try (FileInputStream fis = new FileInputStream(file);
+             XSSFWorkbook workbook = new XSSFWorkbook(fis)) {
+            for (Sheet sheet : workbook) {
+                sheets.put(sheet.getSheetName(), SheetIndex.of(sheet));
+            }
+        }
+        return sheets;
+    }
+
+    public SheetData sheet(String sheetName) {
+        SheetData sheet = sheets.get(sheetName);
+        if (sheet == null) {
+            throw new IllegalArgumentException("Sheet " + sheetName + " not found in " + file.getName());
+        }
+        return sheet;
+    }
+
+    /**
+     * True when the sheets come from the memory-mapped compiled file
+     */
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * True when the file changed on disk since this index was built
+     */
+    public boolean isStale() {
+        long now = System.currentTimeMillis();
+        if (now < nextCheckMillis) {
+            return false;
+        }
+        // Benign race - two readers may both stat the file
+        nextCheckMillis = now + STALE_CHECK_INTERVAL_MILLIS;
+        return file.lastModified() != lastModified;
+    }
+}
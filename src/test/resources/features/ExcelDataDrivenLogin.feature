@@ -0,0 +1,8 @@
+@ExcelData
+Feature: Excel Data Driven Login
+
+  @excel:Sheet1
+  Scenario: Validate every user in the test data sheet can log in
+    Given User navigates to Login Page
+    When User enters the log in details from the current data row
+    Then User should be able to view the product category page
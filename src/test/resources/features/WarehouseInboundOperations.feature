@@ -78,3 +78,10 @@ Feature: Warehouse Inbound Operations Management
     Then the shipment status should be "SHORT_RECEIVED"
     And the shortage report should be generated
     And I validate the short received inventory via API
+
+  @BulkReceiving @Regression
+  Scenario: Create Inbound Shipment from a Bulk Item File
+    Given I create an inbound shipment "SHP-004" with items from "bulk/inbound-shipment-sample.csv"
+    When I navigate to the pre-receiving change screen for shipment "SHP-004"
+    And I create appointment "APT-004" for the shipment
+    Then shipment "SHP-004" should list 10 expected items
@@ -65,6 +65,20 @@ Feature: Warehouse Inventory Adjustment Operations
     And the cycle count report should be generated
     And I validate the cycle count results via REST API call
 
+  @CycleCount @Regression
+  Scenario: Cycle Count from a Count File
+    Given I have scheduled cycle count for location "C-01"
+    And the system shows expected inventory:
+      | SKU     | System Quantity | Location |
+      | SKU-CC-001 | 75           | C-01-01  |
+      | SKU-CC-002 | 40           | C-01-02  |
+      | SKU-CC-003 | 25           | C-01-03  |
+    When I navigate to the cycle count screen for location "C-01"
+    And I perform physical count from "bulk/cycle-count-c01.csv"
+    And I investigate discrepancies for items with variance
+    And I approve the cycle count adjustments
+    Then the cycle count report should be generated
+
   @APITesting @DataValidation @Collections
   Scenario: Inventory Validation with Advanced Collections and REST API
     Given I have performed multiple inventory transactions